@@ -1,10 +1,16 @@
 package com.visionreport.api;
 
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
+import com.visionreport.model.AssetStore;
 import com.visionreport.model.ReportType;
 import com.visionreport.model.TestCase;
 
@@ -43,9 +49,10 @@ public class VisionReport {
 	private String domain;
 	private String testerName;
 	private final Set<String> businessAnalysts;
+	private AssetStore assetStore;
 
 	// Report Data
-	private final List<TestCase> testCases;
+	private final ArrayList<TestCase> testCases;
 	private int testCaseCounter = 0;
 
 	public VisionReport(ReportType reportType) {
@@ -65,10 +72,9 @@ public class VisionReport {
 		this.environment = "N/A";
 		this.domain = "N/A";
 		this.testerName = "N/A";
-	}
-
-	private String generateNextTestId() {
-		return "TC" + String.format("%03d", ++testCaseCounter);
+		// A store of its own, so that settings such as the spill threshold never
+		// leak into other reports or into the JVM-wide default store.
+		this.assetStore = new AssetStore(Paths.get(AssetStore.DEFAULT_DIRECTORY));
 	}
 
 	// --- Test Case Creation API ---
@@ -81,7 +87,8 @@ public class VisionReport {
 	 */
 	public TestCase addTest(String name) {
 		TestCase testCase = new TestCase(name);
-		testCase.setTestId(generateNextTestId());
+		testCase.setSequentialId(++testCaseCounter);
+		testCase.setAssetStore(assetStore);
 		this.testCases.add(testCase);
 		return testCase;
 	}
@@ -96,6 +103,7 @@ public class VisionReport {
 	public TestCase addTest(String testId, String name) {
 		TestCase testCase = new TestCase(name);
 		testCase.setTestId(testId);
+		testCase.setAssetStore(assetStore);
 		this.testCases.add(testCase);
 		return testCase;
 	}
@@ -125,7 +133,7 @@ public class VisionReport {
 	public TestCase addTestWithTags(String name, String tags) {
 		TestCase testCase = addTest(name);
 		if (tags != null) {
-			testCase.setTags(tags.split(","));
+			testCase.setCommaSeparatedTags(tags);
 		}
 		return testCase;
 	}
@@ -143,11 +151,86 @@ public class VisionReport {
 	public TestCase addTest(String testId, String name, String description, String tags) {
 		TestCase testCase = addTest(testId, name, description);
 		if (tags != null) {
-			testCase.setTags(tags.split(","));
+			testCase.setCommaSeparatedTags(tags);
 		}
 		return testCase;
 	}
 
+	// --- Batch Ingestion API ---
+
+	/**
+	 * Adds a batch of already built test cases. Test cases without an ID receive
+	 * an auto-generated one. Each test case and its existing logs switch to the
+	 * asset store of this report; messages and payloads that were already
+	 * written stay in the store they were written to.
+	 * 
+	 * @param testCases The test cases to add.
+	 * @return The current {@link VisionReport} instance for method chaining.
+	 */
+	public VisionReport addTests(Collection<? extends TestCase> testCases) {
+		if (testCases != null) {
+			ensureCapacity(testCases.size());
+			for (TestCase testCase : testCases) {
+				ingest(testCase);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Adds all test cases returned by an iterator. The iterator is consumed
+	 * lazily, so test cases can be produced while they are being added.
+	 * 
+	 * @param testCases The iterator supplying the test cases.
+	 * @return The current {@link VisionReport} instance for method chaining.
+	 */
+	public VisionReport addTests(Iterator<? extends TestCase> testCases) {
+		if (testCases != null) {
+			while (testCases.hasNext()) {
+				ingest(testCases.next());
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Adds all test cases of a stream, in encounter order.
+	 * 
+	 * @param testCases The stream supplying the test cases.
+	 * @return The current {@link VisionReport} instance for method chaining.
+	 */
+	public VisionReport addTests(Stream<? extends TestCase> testCases) {
+		if (testCases != null) {
+			addTests(testCases.iterator());
+		}
+		return this;
+	}
+
+	/**
+	 * Pre-sizes the report for a known number of upcoming test cases, avoiding
+	 * repeated growth of the internal list during large imports.
+	 * 
+	 * @param additionalTests The number of test cases about to be added.
+	 * @return The current {@link VisionReport} instance for method chaining.
+	 */
+	public VisionReport ensureCapacity(int additionalTests) {
+		if (additionalTests > 0) {
+			this.testCases.ensureCapacity(this.testCases.size() + additionalTests);
+		}
+		return this;
+	}
+
+	private void ingest(TestCase testCase) {
+		if (testCase == null) {
+			throw new IllegalArgumentException("TestCase cannot be null.");
+		}
+		if (!testCase.hasTestId()) {
+			testCase.setSequentialId(++testCaseCounter);
+		}
+		testCase.setAssetStore(assetStore);
+		this.testCases.add(testCase);
+	}
+
 	// --- Fluent Configuration Methods ---
 
 	public VisionReport setReportTitle(String reportTitle) {
@@ -199,6 +282,40 @@ public class VisionReport {
 		return this;
 	}
 
+	/**
+	 * Sets the directory where large attachments (e.g., API request and response
+	 * bodies) are stored. Applies to test cases added after this call. The
+	 * message spill settings of the report are kept.
+	 * 
+	 * @param directory The relative or absolute path of the asset directory.
+	 * @return The current {@link VisionReport} instance for method chaining.
+	 */
+	public VisionReport setAssetDirectory(String directory) {
+		if (directory != null && !directory.trim().isEmpty()) {
+			try {
+				this.assetStore = new AssetStore(Paths.get(directory))
+						.setMessageThreshold(assetStore.getMessageThreshold())
+						.setMessagePreview(assetStore.getMessagePreview());
+			} catch (InvalidPathException e) {
+				throw new IllegalArgumentException("Invalid asset directory: " + directory, e);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Sets the message length above which log messages are compressed to the
+	 * asset directory, keeping only a preview in memory. Applies to this report
+	 * only; each report has an asset store of its own.
+	 * 
+	 * @param threshold The threshold in characters.
+	 * @return The current {@link VisionReport} instance for method chaining.
+	 */
+	public VisionReport setMessageSpillThreshold(int threshold) {
+		this.assetStore.setMessageThreshold(threshold);
+		return this;
+	}
+
 	// --- Getters ---
 
 	public ReportType getReportType() {
@@ -233,6 +350,10 @@ public class VisionReport {
 		return businessAnalysts;
 	}
 
+	public AssetStore getAssetStore() {
+		return assetStore;
+	}
+
 	public List<TestCase> getTestCases() {
 		return testCases;
 	}
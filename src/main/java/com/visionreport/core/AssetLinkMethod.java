@@ -0,0 +1,51 @@
+package com.visionreport.core;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import freemarker.template.SimpleScalar;
+import freemarker.template.TemplateMethodModelEx;
+import freemarker.template.TemplateModelException;
+import freemarker.template.TemplateScalarModel;
+
+/**
+ * A template method turning the path of an asset file into a link relative to
+ * the report file, so that the report and its assets can be moved together.
+ * <p>
+ * Usage in a template: {@code <a href="${assetLink(log.response.assetPath)}">}.
+ * </p>
+ *
+ * @author Vision-Report Team
+ * @version 0.0.1-SNAPSHOT
+ * @since 0.0.1
+ */
+final class AssetLinkMethod implements TemplateMethodModelEx {
+
+	private final Path reportDirectory;
+
+	AssetLinkMethod(Path outputFile) {
+		Path parent = outputFile.toAbsolutePath().normalize().getParent();
+		this.reportDirectory = parent != null ? parent : outputFile.toAbsolutePath().getRoot();
+	}
+
+	@Override
+	public Object exec(@SuppressWarnings("rawtypes") List arguments) throws TemplateModelException {
+		if (arguments.size() != 1) {
+			throw new TemplateModelException("assetLink expects exactly one argument.");
+		}
+		if (!(arguments.get(0) instanceof TemplateScalarModel)) {
+			throw new TemplateModelException("assetLink expects a path as its argument.");
+		}
+		return new SimpleScalar(link(Paths.get(((TemplateScalarModel) arguments.get(0)).getAsString())));
+	}
+
+	String link(Path asset) {
+		Path absolute = asset.toAbsolutePath().normalize();
+		try {
+			return reportDirectory.relativize(absolute).toString().replace('\\', '/');
+		} catch (IllegalArgumentException e) {
+			return absolute.toUri().toString();
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package com.visionreport.core;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import com.visionreport.api.VisionReport;
+import com.visionreport.exception.VisionReportException;
+import com.visionreport.importer.JUnitXmlImporter;
+import com.visionreport.model.ReportType;
+import com.visionreport.model.Status;
+import com.visionreport.model.TestCase;
+
+/**
+ * Exercises every report generation path once so that a class data sharing
+ * (CDS) archive can be recorded for fast start-up.
+ * <p>
+ * Short-lived invocations spend most of their time loading and verifying
+ * FreeMarker and Vision-Report classes. Recording them into an AppCDS archive
+ * once and reusing it roughly halves the cold-start time:
+ * </p>
+ *
+ * <pre>
+ * java -XX:ArchiveClassesAtExit=vision-report.jsa -cp &lt;classpath&gt; com.visionreport.core.CdsTrainer
+ * java -XX:SharedArchiveFile=vision-report.jsa -cp &lt;classpath&gt; your.Main
+ * </pre>
+ * <p>
+ * The classpath must consist of JAR files only and must be the same for both
+ * commands. All files are written to a temporary folder that is deleted
+ * afterwards.
+ * </p>
+ *
+ * @author Vision-Report Team
+ * @version 0.0.1-SNAPSHOT
+ * @since 0.0.1
+ */
+public final class CdsTrainer {
+
+	private CdsTrainer() {
+	}
+
+	public static void main(String[] args) throws IOException, VisionReportException {
+		Path directory = Files.createTempDirectory("vision-report-cds");
+		try {
+			train(directory);
+		} finally {
+			try (Stream<Path> files = Files.walk(directory)) {
+				files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+			}
+		}
+	}
+
+	private static void train(Path directory) throws VisionReportException {
+		VisionReport report = new VisionReport(ReportType.API_TESTING).setProjectName("CDS Training")
+				.setAssetDirectory(directory.resolve("assets").toString()).setMessageSpillThreshold(64);
+		TestCase passed = report.addTestWithTags("Passed test", "Smoke, Regression");
+		passed.setStatus(Status.PASS);
+		passed.addLog(Status.PASS, "Request").attachRequest("{\"id\":1}", "application/json")
+				.attachResponse("<ok>true</ok>", "application/xml");
+		TestCase failed = report.addTest("TC-FAIL", "Failed test", "Fails on purpose.");
+		failed.setStatus(Status.FAIL);
+		failed.addLog(Status.FAIL, "Assertion").setMessage(new String(new char[128]).replace('\0', 'x'));
+
+		Path junitFile = directory.resolve("junit.xml");
+		new MultiFormatReportGenerator(report).addSink(new HtmlReportSink(directory.resolve("report.html")))
+				.addSink(new JsonReportSink(directory.resolve("report.json")))
+				.addSink(new JUnitXmlReportSink(junitFile)).generate();
+		new HtmlReportGenerator(report, directory.resolve("incremental.html").toString()).setIncremental(true)
+				.generate();
+		new JUnitXmlImporter(new VisionReport(ReportType.UI_TESTING)).importFile(junitFile.toString());
+	}
+}
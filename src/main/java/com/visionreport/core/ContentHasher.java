@@ -0,0 +1,138 @@
+package com.visionreport.core;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.visionreport.model.HttpPayload;
+import com.visionreport.model.LogEntry;
+import com.visionreport.model.TestCase;
+
+/**
+ * Computes a SHA-256 content hash over everything a {@link TestCase} fragment
+ * renders: test fields, tags, logs, media and attached payloads.
+ * <p>
+ * Wall-clock times (the start and end time of the test and the timestamps of
+ * its logs) are left out, because they differ every time the same result is
+ * built or imported. A reused fragment therefore keeps the times of the
+ * generation that rendered it. The duration is hashed, so a test that was
+ * actually executed again is rendered again.
+ * </p>
+ * <p>
+ * Strings are fed to the digest char by char through a reusable buffer, so
+ * hashing a large message or a Base64 screenshot does not copy it. Attached
+ * payloads and spilled messages are represented by their own hash and asset
+ * path instead of their content. An instance is not thread-safe.
+ * </p>
+ *
+ * @author Vision-Report Team
+ * @version 0.0.1-SNAPSHOT
+ * @since 0.0.1
+ */
+final class ContentHasher {
+
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	private final MessageDigest digest;
+	private final byte[] buffer = new byte[4096];
+
+	ContentHasher() {
+		try {
+			this.digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not supported by this JVM.", e);
+		}
+	}
+
+	/**
+	 * Hashes the rendered content of a test case.
+	 *
+	 * @param testCase The test case to hash.
+	 * @return The lowercase hexadecimal hash.
+	 */
+	String hash(TestCase testCase) {
+		digest.reset();
+		update(testCase.getTestId());
+		update(testCase.getName());
+		update(testCase.getDescription());
+		update(testCase.getStatus());
+		update(testCase.getDuration());
+		List<String> tags = new ArrayList<>(testCase.getReadOnlyTags());
+		Collections.sort(tags);
+		update(tags.size());
+		for (String tag : tags) {
+			update(tag);
+		}
+		update(testCase.getLogs().size());
+		for (LogEntry log : testCase.getLogs()) {
+			update(log.getLogId());
+			update(log.getName());
+			update(log.getMessage());
+			update(log.getSpilledMessage() != null ? log.getSpilledMessage().getSha256() : null);
+			update(log.getSpilledMessage() != null ? log.getSpilledMessage().getAssetPath() : null);
+			update(log.getStatus());
+			update(log.getMedia() != null ? log.getMedia().getData() : null);
+			update(log.getRequest());
+			update(log.getResponse());
+		}
+		return toHex(digest.digest());
+	}
+
+	private void update(HttpPayload payload) {
+		if (payload == null) {
+			update((String) null);
+			return;
+		}
+		update(payload.getSha256());
+		update(payload.getContentType());
+		update(String.valueOf(payload.getSize()));
+		update(payload.getAssetPath());
+	}
+
+	private void update(Object value) {
+		update(value != null ? value.toString() : null);
+	}
+
+	private void update(int value) {
+		buffer[0] = (byte) (value >>> 24);
+		buffer[1] = (byte) (value >>> 16);
+		buffer[2] = (byte) (value >>> 8);
+		buffer[3] = (byte) value;
+		digest.update(buffer, 0, 4);
+	}
+
+	/**
+	 * Feeds a length-prefixed string to the digest, using -1 as the length of
+	 * {@code null} so that adjacent fields cannot be confused.
+	 */
+	private void update(String value) {
+		if (value == null) {
+			update(-1);
+			return;
+		}
+		int length = value.length();
+		update(length);
+		int position = 0;
+		for (int i = 0; i < length; i++) {
+			char c = value.charAt(i);
+			buffer[position++] = (byte) (c >>> 8);
+			buffer[position++] = (byte) c;
+			if (position == buffer.length) {
+				digest.update(buffer, 0, position);
+				position = 0;
+			}
+		}
+		digest.update(buffer, 0, position);
+	}
+
+	static String toHex(byte[] bytes) {
+		char[] chars = new char[bytes.length * 2];
+		for (int i = 0; i < bytes.length; i++) {
+			chars[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+			chars[i * 2 + 1] = HEX[bytes[i] & 0xF];
+		}
+		return new String(chars);
+	}
+}
@@ -0,0 +1,333 @@
+package com.visionreport.core;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.visionreport.model.Status;
+
+/**
+ * Stores rendered test case fragments on disk, keyed by test ID, together with
+ * a manifest describing the last generation.
+ * <p>
+ * All fragments of a generation are packed into a single file so that reusing
+ * tens of thousands of fragments is one sequential read instead of one file
+ * open per test. The manifest is a plain text file. Its first line records the
+ * hash of the fragment template. Each following line holds the test ID,
+ * content hash, pack offset and length of one fragment, plus the status and
+ * duration of its test case. A fragment is reused when the test case with the
+ * same ID still has the same content hash, and only while the template hash is
+ * unchanged.
+ * </p>
+ * <p>
+ * Fragments of test IDs that are missing from the current generation are
+ * carried forward into the new pack, so a report regenerated from a partial
+ * re-run (e.g., only the failed tests) still shows every test. Their status
+ * and duration are kept in the manifest so that the totals can include them
+ * without parsing the HTML.
+ * </p>
+ * <p>
+ * The new pack and manifest are written next to the old ones and only replace
+ * them in {@link #commit()}, so an aborted generation leaves the previous
+ * cache intact.
+ * </p>
+ *
+ * @author Vision-Report Team
+ * @version 0.0.1-SNAPSHOT
+ * @since 0.0.1
+ */
+final class FragmentCache {
+
+	static final String MANIFEST_FILE = "manifest.txt";
+	static final String PACK_FILE = "fragments.pack";
+
+	private static final String TEMPLATE_PREFIX = "template=";
+	private static final String TEMP_SUFFIX = ".tmp";
+	private static final String NO_STATUS = "-";
+
+	private final Path directory;
+	private final Map<String, Entry> cached;
+	private final List<Entry> carried;
+	private final FileChannel previousPack;
+	private final BufferedWriter manifest;
+	private final OutputStream pack;
+	private long packSize;
+	private ByteBuffer buffer = ByteBuffer.allocate(16 * 1024);
+
+	private FragmentCache(Path directory, Map<String, Entry> cached, List<Entry> carried, FileChannel previousPack,
+			BufferedWriter manifest, OutputStream pack) {
+		this.directory = directory;
+		this.cached = cached;
+		this.carried = carried;
+		this.previousPack = previousPack;
+		this.manifest = manifest;
+		this.pack = pack;
+	}
+
+	/**
+	 * Opens the cache in the given directory and reads the manifest of the
+	 * previous generation, if any. Entries whose test ID is not in
+	 * {@code currentIds} are set aside to be carried forward.
+	 */
+	static FragmentCache open(Path directory, String templateHash, Set<String> currentIds) throws IOException {
+		Files.createDirectories(directory);
+		Map<String, Entry> cached = readManifest(directory.resolve(MANIFEST_FILE), templateHash);
+		FileChannel previousPack = null;
+		if (!cached.isEmpty()) {
+			try {
+				previousPack = FileChannel.open(directory.resolve(PACK_FILE), StandardOpenOption.READ);
+			} catch (NoSuchFileException e) {
+				cached.clear();
+			}
+		}
+		List<Entry> carried = new ArrayList<>();
+		for (Entry entry : cached.values()) {
+			if (!currentIds.contains(entry.testId)) {
+				carried.add(entry);
+			}
+		}
+		BufferedWriter manifest = Files.newBufferedWriter(directory.resolve(MANIFEST_FILE + TEMP_SUFFIX),
+				StandardCharsets.UTF_8);
+		manifest.write(TEMPLATE_PREFIX + templateHash);
+		manifest.newLine();
+		OutputStream pack = new BufferedOutputStream(
+				Files.newOutputStream(directory.resolve(PACK_FILE + TEMP_SUFFIX)), 64 * 1024);
+		return new FragmentCache(directory, cached, carried, previousPack, manifest, pack);
+	}
+
+	private static Map<String, Entry> readManifest(Path manifestFile, String templateHash) throws IOException {
+		Map<String, Entry> entries = new LinkedHashMap<>();
+		try (BufferedReader reader = Files.newBufferedReader(manifestFile, StandardCharsets.UTF_8)) {
+			String header = reader.readLine();
+			if (header == null || !header.equals(TEMPLATE_PREFIX + templateHash)) {
+				return entries;
+			}
+			String line;
+			while ((line = reader.readLine()) != null) {
+				String[] fields = line.split("\t", -1);
+				if (fields.length == 6) {
+					try {
+						Status status = NO_STATUS.equals(fields[4]) ? null : Status.valueOf(fields[4]);
+						Entry entry = new Entry(unescape(fields[0]), fields[1], Long.parseLong(fields[2]),
+								Long.parseLong(fields[3]), status, Long.parseLong(fields[5]));
+						entries.put(entry.testId, entry);
+					} catch (IllegalArgumentException e) {
+						// A damaged line only costs a re-render of that fragment.
+					}
+				}
+			}
+		} catch (NoSuchFileException e) {
+			// First generation: nothing is cached yet.
+		}
+		return entries;
+	}
+
+	/**
+	 * Adds the status and duration of the fragments that will be carried forward
+	 * to a summary of the current test cases.
+	 */
+	ReportSummary withCarried(ReportSummary summary) {
+		int[] counts = new int[Status.values().length];
+		long nanos = 0;
+		for (Entry entry : carried) {
+			if (entry.status != null) {
+				counts[entry.status.ordinal()]++;
+			}
+			nanos += entry.durationNanos;
+		}
+		return summary.plus(carried.size(), counts, nanos);
+	}
+
+	/**
+	 * Copies the cached fragment of the given test to the output and into the
+	 * new pack, if present and rendered from the same content.
+	 *
+	 * @return {@code true} if the fragment was reused.
+	 */
+	boolean reuse(String testId, String hash, Status status, Duration duration, OutputStream out)
+			throws IOException {
+		Entry entry = cached.get(testId);
+		if (entry == null || !entry.hash.equals(hash) || !read(entry)) {
+			return false;
+		}
+		out.write(buffer.array(), 0, (int) entry.length);
+		append(testId, hash, status, duration != null ? duration.toNanos() : 0, buffer.array(), (int) entry.length);
+		return true;
+	}
+
+	/**
+	 * Adds a freshly rendered fragment to the new pack.
+	 */
+	void add(String testId, String hash, Status status, Duration duration, byte[] fragment) throws IOException {
+		append(testId, hash, status, duration != null ? duration.toNanos() : 0, fragment, fragment.length);
+	}
+
+	/**
+	 * Copies the fragments of all tests missing from the current generation to
+	 * the output and into the new pack, in their previous order.
+	 *
+	 * @return The number of fragments carried forward.
+	 */
+	int carryForward(OutputStream out) throws IOException {
+		int count = 0;
+		for (Entry entry : carried) {
+			if (read(entry)) {
+				out.write(buffer.array(), 0, (int) entry.length);
+				append(entry.testId, entry.hash, entry.status, entry.durationNanos, buffer.array(),
+						(int) entry.length);
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Reads the fragment of an entry from the previous pack into the buffer.
+	 */
+	private boolean read(Entry entry) throws IOException {
+		if (entry.length > Integer.MAX_VALUE) {
+			return false;
+		}
+		int length = (int) entry.length;
+		if (buffer.capacity() < length) {
+			buffer = ByteBuffer.allocate(Math.max(length, buffer.capacity() * 2));
+		}
+		buffer.clear().limit(length);
+		while (buffer.hasRemaining()) {
+			if (previousPack.read(buffer, entry.offset + buffer.position()) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void append(String testId, String hash, Status status, long durationNanos, byte[] fragment, int length)
+			throws IOException {
+		pack.write(fragment, 0, length);
+		manifest.write(escape(testId));
+		manifest.write('\t');
+		manifest.write(hash);
+		manifest.write('\t');
+		manifest.write(Long.toString(packSize));
+		manifest.write('\t');
+		manifest.write(Integer.toString(length));
+		manifest.write('\t');
+		manifest.write(status != null ? status.name() : NO_STATUS);
+		manifest.write('\t');
+		manifest.write(Long.toString(durationNanos));
+		manifest.newLine();
+		packSize += length;
+	}
+
+	/**
+	 * Escapes backslashes, tabs and line breaks so that any test ID fits in one
+	 * manifest field.
+	 */
+	private static String escape(String value) {
+		StringBuilder escaped = null;
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			String replacement = c == '\\' ? "\\\\" : c == '\t' ? "\\t" : c == '\n' ? "\\n" : c == '\r' ? "\\r" : null;
+			if (replacement != null && escaped == null) {
+				escaped = new StringBuilder(value.length() + 8).append(value, 0, i);
+			}
+			if (escaped != null) {
+				if (replacement != null) {
+					escaped.append(replacement);
+				} else {
+					escaped.append(c);
+				}
+			}
+		}
+		return escaped != null ? escaped.toString() : value;
+	}
+
+	private static String unescape(String value) {
+		if (value.indexOf('\\') < 0) {
+			return value;
+		}
+		StringBuilder unescaped = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '\\' && i + 1 < value.length()) {
+				char next = value.charAt(++i);
+				unescaped.append(next == 't' ? '\t' : next == 'n' ? '\n' : next == 'r' ? '\r' : next);
+			} else {
+				unescaped.append(c);
+			}
+		}
+		return unescaped.toString();
+	}
+
+	/**
+	 * Publishes the new pack and manifest, replacing those of the previous
+	 * generation.
+	 */
+	void commit() throws IOException {
+		close();
+		Files.move(directory.resolve(PACK_FILE + TEMP_SUFFIX), directory.resolve(PACK_FILE),
+				StandardCopyOption.REPLACE_EXISTING);
+		Files.move(directory.resolve(MANIFEST_FILE + TEMP_SUFFIX), directory.resolve(MANIFEST_FILE),
+				StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	/**
+	 * Discards the pack and manifest of an aborted generation.
+	 */
+	void abort() {
+		try {
+			close();
+			Files.deleteIfExists(directory.resolve(PACK_FILE + TEMP_SUFFIX));
+			Files.deleteIfExists(directory.resolve(MANIFEST_FILE + TEMP_SUFFIX));
+		} catch (IOException ignored) {
+			// The previous pack and manifest are still in place.
+		}
+	}
+
+	private void close() throws IOException {
+		try {
+			manifest.close();
+			pack.close();
+		} finally {
+			if (previousPack != null) {
+				previousPack.close();
+			}
+		}
+	}
+
+	/** A fragment of the previous generation, as listed in its manifest. */
+	private static final class Entry {
+
+		final String testId;
+		final String hash;
+		final long offset;
+		final long length;
+		final Status status;
+		final long durationNanos;
+
+		Entry(String testId, String hash, long offset, long length, Status status, long durationNanos) {
+			this.testId = testId;
+			this.hash = hash;
+			this.offset = offset;
+			this.length = length;
+			this.status = status;
+			this.durationNanos = durationNanos;
+		}
+	}
+}
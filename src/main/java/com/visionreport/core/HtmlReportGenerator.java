@@ -0,0 +1,109 @@
+package com.visionreport.core;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import com.visionreport.api.VisionReport;
+import com.visionreport.exception.VisionReportException;
+import com.visionreport.model.TestCase;
+
+/**
+ * Generates a static HTML report from a {@link VisionReport}.
+ * <p>
+ * The page is streamed to disk as a header, one fragment per test case and a
+ * footer, so the rendered HTML is never held in memory as a whole.
+ * </p>
+ * <p>
+ * In incremental mode, the rendered fragments are cached in a
+ * {@code <report>-fragments} folder next to the output, together with a
+ * manifest of per-test content hashes keyed by test ID. On the next generation
+ * only test cases whose content hash changed are rendered again; all other
+ * fragments are copied from the cache. Test cases of the previous generation
+ * that are missing from the report are carried forward with their last result,
+ * so a report rebuilt from a re-run of only the failed tests still lists the
+ * whole suite. This keeps regeneration after a partial re-run proportional to
+ * the number of changed tests. Only test cases with an explicit, stable ID
+ * (e.g., set with {@link VisionReport#addTest(String, String)} or assigned by
+ * the JUnit importer) are cached and carried forward; test cases with an
+ * auto-generated ID are always rendered. Delete the fragment folder to start
+ * over.
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * new HtmlReportGenerator(report, "reports/index.html").setIncremental(true).generate();
+ * }
+ * </pre>
+ *
+ * @author Vision-Report Team
+ * @version 0.0.1-SNAPSHOT
+ * @since 0.0.1
+ */
+public class HtmlReportGenerator implements ReportGenerator {
+
+	private final VisionReport report;
+	private final HtmlReportSink sink;
+
+	/**
+	 * Creates a generator writing the given report to an HTML file.
+	 *
+	 * @param report     The report to render.
+	 * @param outputPath The relative or absolute path of the HTML file to write.
+	 */
+	public HtmlReportGenerator(VisionReport report, String outputPath) {
+		if (report == null) {
+			throw new IllegalArgumentException("VisionReport cannot be null.");
+		}
+		if (outputPath == null || outputPath.trim().isEmpty()) {
+			throw new IllegalArgumentException("Output path cannot be null or empty.");
+		}
+		try {
+			this.sink = new HtmlReportSink(Paths.get(outputPath));
+		} catch (InvalidPathException e) {
+			throw new IllegalArgumentException("Invalid output path: " + outputPath, e);
+		}
+		this.report = report;
+	}
+
+	/**
+	 * Enables or disables incremental generation.
+	 *
+	 * @param incremental {@code true} to reuse cached fragments of unchanged test
+	 *                    cases and merge in those of missing test cases.
+	 * @return The current {@link HtmlReportGenerator} instance for method
+	 *         chaining.
+	 */
+	public HtmlReportGenerator setIncremental(boolean incremental) {
+		sink.setIncremental(incremental);
+		return this;
+	}
+
+	public Path getOutputFile() {
+		return sink.getOutputFile();
+	}
+
+	/**
+	 * Gets the folder holding the cached fragments and the manifest used in
+	 * incremental mode.
+	 *
+	 * @return The fragment cache folder.
+	 */
+	public Path getFragmentDirectory() {
+		return sink.getFragmentDirectory();
+	}
+
+	@Override
+	public void generate() throws VisionReportException {
+		sink.open(report, ReportSummary.of(report.getTestCases()));
+		try {
+			for (TestCase testCase : report.getTestCases()) {
+				sink.write(testCase);
+			}
+		} catch (VisionReportException | RuntimeException e) {
+			sink.abort();
+			throw e;
+		}
+		sink.close();
+	}
+}
@@ -0,0 +1,240 @@
+package com.visionreport.core;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.visionreport.api.VisionReport;
+import com.visionreport.exception.VisionReportException;
+import com.visionreport.model.TestCase;
+
+import freemarker.template.Template;
+import freemarker.template.TemplateException;
+
+/**
+ * A {@link ReportSink} writing the static HTML report.
+ * <p>
+ * The page is streamed to disk as a header, one fragment per test case and a
+ * footer, so the rendered HTML is never held in memory as a whole. In
+ * incremental mode, fragments of unchanged test cases are copied from a
+ * {@link FragmentCache} instead of being rendered again, and fragments of test
+ * cases missing from the report are carried forward from the previous
+ * generation (see {@link #setIncremental(boolean)}).
+ * </p>
+ *
+ * @author Vision-Report Team
+ * @version 0.0.1-SNAPSHOT
+ * @since 0.0.1
+ */
+public class HtmlReportSink implements ReportSink {
+
+	static final String HEADER_TEMPLATE = "report-header.ftlh";
+	static final String TEST_CASE_TEMPLATE = "test-case.ftlh";
+	static final String FOOTER_TEMPLATE = "report-footer.ftlh";
+
+	private final Path outputFile;
+	private boolean incremental;
+
+	private Template testCaseTemplate;
+	private Template footerTemplate;
+	private Map<String, Object> pageModel;
+	private Map<String, Object> testModel;
+	private OutputStream out;
+	private Writer writer;
+	private FragmentCache cache;
+	private ContentHasher hasher;
+	private int written;
+	private int rendered;
+
+	/** Defers logging initialization until the first message is logged. */
+	private static final class LoggerHolder {
+		static final Logger LOGGER = LoggerFactory.getLogger(HtmlReportSink.class);
+	}
+
+	/**
+	 * Creates a sink writing the HTML report to the given file.
+	 *
+	 * @param outputFile The HTML file to write.
+	 */
+	public HtmlReportSink(Path outputFile) {
+		if (outputFile == null) {
+			throw new IllegalArgumentException("Output file cannot be null.");
+		}
+		this.outputFile = outputFile;
+	}
+
+	/**
+	 * Enables or disables incremental generation.
+	 * <p>
+	 * Fragments are matched by test ID. A test case whose content hash is
+	 * unchanged reuses its cached fragment. Test IDs that were in the previous
+	 * generation but are missing from the report are carried forward with their
+	 * last result and counted in the totals, so the report can be regenerated
+	 * from a re-run of only the failed tests. Only explicit, stable test IDs
+	 * (see {@link TestCase#hasExplicitTestId()}) take part: auto-generated IDs
+	 * such as {@code TC001} follow the insertion order and would match the wrong
+	 * test, so those test cases are always rendered and never cached or carried
+	 * forward. To drop carried-forward tests, delete the
+	 * {@link #getFragmentDirectory() fragment folder}.
+	 * </p>
+	 *
+	 * @param incremental {@code true} to reuse cached fragments of unchanged test
+	 *                    cases and merge in those of missing test cases.
+	 * @return The current {@link HtmlReportSink} instance for method chaining.
+	 */
+	public HtmlReportSink setIncremental(boolean incremental) {
+		this.incremental = incremental;
+		return this;
+	}
+
+	public Path getOutputFile() {
+		return outputFile;
+	}
+
+	/**
+	 * Gets the folder holding the cached fragments and the manifest used in
+	 * incremental mode.
+	 *
+	 * @return The fragment cache folder.
+	 */
+	public Path getFragmentDirectory() {
+		String fileName = outputFile.getFileName().toString();
+		int dot = fileName.lastIndexOf('.');
+		String baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+		return outputFile.resolveSibling(baseName + "-fragments");
+	}
+
+	@Override
+	public void open(VisionReport report, ReportSummary summary) throws VisionReportException {
+		Template headerTemplate = TemplateEngine.getTemplate(HEADER_TEMPLATE);
+		testCaseTemplate = TemplateEngine.getTemplate(TEST_CASE_TEMPLATE);
+		footerTemplate = TemplateEngine.getTemplate(FOOTER_TEMPLATE);
+		pageModel = new HashMap<>();
+		pageModel.put("report", report);
+		testModel = new HashMap<>();
+		testModel.put("assetLink", new AssetLinkMethod(outputFile));
+		written = 0;
+		rendered = 0;
+		try {
+			Path parent = outputFile.toAbsolutePath().getParent();
+			if (parent != null) {
+				Files.createDirectories(parent);
+			}
+			if (incremental) {
+				Set<String> testIds = new HashSet<>();
+				for (TestCase testCase : report.getTestCases()) {
+					if (testCase.hasExplicitTestId()) {
+						testIds.add(testCase.getTestId());
+					}
+				}
+				cache = FragmentCache.open(getFragmentDirectory(), TemplateEngine.sourceHash(TEST_CASE_TEMPLATE),
+						testIds);
+				hasher = new ContentHasher();
+			}
+			pageModel.put("summary", cache != null ? cache.withCarried(summary) : summary);
+			out = new BufferedOutputStream(Files.newOutputStream(outputFile), 64 * 1024);
+			writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+			headerTemplate.process(pageModel, writer);
+			writer.flush();
+		} catch (IOException e) {
+			abort();
+			throw new VisionReportException("Failed to write HTML report to: " + outputFile, e);
+		} catch (TemplateException e) {
+			abort();
+			throw new VisionReportException("Failed to render HTML report: " + e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public void write(TestCase testCase) throws VisionReportException {
+		try {
+			written++;
+			if (cache == null || !testCase.hasExplicitTestId()) {
+				testModel.put("test", testCase);
+				testCaseTemplate.process(testModel, writer);
+				if (cache != null) {
+					// Cached fragments bypass the writer, so keep the page in order.
+					writer.flush();
+				}
+				rendered++;
+				return;
+			}
+			String testId = testCase.getTestId();
+			String hash = hasher.hash(testCase);
+			if (!cache.reuse(testId, hash, testCase.getStatus(), testCase.getDuration(), out)) {
+				testModel.put("test", testCase);
+				StringWriter fragment = new StringWriter();
+				testCaseTemplate.process(testModel, fragment);
+				byte[] bytes = fragment.toString().getBytes(StandardCharsets.UTF_8);
+				out.write(bytes);
+				cache.add(testId, hash, testCase.getStatus(), testCase.getDuration(), bytes);
+				rendered++;
+			}
+		} catch (IOException e) {
+			throw new VisionReportException("Failed to write HTML report to: " + outputFile, e);
+		} catch (TemplateException e) {
+			throw new VisionReportException(
+					"Failed to render test case " + testCase.getTestId() + ": " + e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public void close() throws VisionReportException {
+		try {
+			int carried = 0;
+			if (cache != null) {
+				writer.flush();
+				carried = cache.carryForward(out);
+			}
+			footerTemplate.process(pageModel, writer);
+			writer.close();
+			writer = null;
+			out = null;
+			if (cache != null) {
+				cache.commit();
+				cache = null;
+				LoggerHolder.LOGGER.info("Rendered {} of {} test cases and carried forward {} from {}", rendered, written, carried,
+						getFragmentDirectory());
+			}
+		} catch (IOException e) {
+			abort();
+			throw new VisionReportException("Failed to write HTML report to: " + outputFile, e);
+		} catch (TemplateException e) {
+			abort();
+			throw new VisionReportException("Failed to render HTML report: " + e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public void abort() {
+		if (cache != null) {
+			cache.abort();
+			cache = null;
+		}
+		try {
+			if (writer != null) {
+				writer.close();
+			} else if (out != null) {
+				out.close();
+			}
+		} catch (IOException ignored) {
+			// The report is incomplete either way.
+		} finally {
+			writer = null;
+			out = null;
+		}
+	}
+}
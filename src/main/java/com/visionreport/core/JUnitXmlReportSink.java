@@ -0,0 +1,247 @@
+package com.visionreport.core;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import com.visionreport.api.VisionReport;
+import com.visionreport.exception.VisionReportException;
+import com.visionreport.model.LogEntry;
+import com.visionreport.model.SpilledMessage;
+import com.visionreport.model.Status;
+import com.visionreport.model.TestCase;
+
+/**
+ * A {@link ReportSink} writing the report as a JUnit XML file, so results can
+ * be consumed by CI servers and other tools.
+ * <p>
+ * All test cases are written to a single {@code <testsuite>} named after the
+ * report title, with the project name as the class name. Failed tests get a
+ * {@code <failure>} built from their first failed log, skipped tests a
+ * {@code <skipped>} element, and all logs are written to
+ * {@code <system-out>}. Messages that were spilled to the asset store are
+ * streamed back in full, so CI tools see the complete output.
+ * </p>
+ *
+ * @author Vision-Report Team
+ * @version 0.0.1-SNAPSHOT
+ * @since 0.0.1
+ */
+public class JUnitXmlReportSink implements ReportSink {
+
+	private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
+	private final Path outputFile;
+	private OutputStream out;
+	private XMLStreamWriter xml;
+	private String className;
+	private final char[] chars = new char[8192];
+
+	/**
+	 * Creates a sink writing the JUnit XML report to the given file.
+	 *
+	 * @param outputFile The XML file to write.
+	 */
+	public JUnitXmlReportSink(Path outputFile) {
+		if (outputFile == null) {
+			throw new IllegalArgumentException("Output file cannot be null.");
+		}
+		this.outputFile = outputFile;
+	}
+
+	public Path getOutputFile() {
+		return outputFile;
+	}
+
+	@Override
+	public void open(VisionReport report, ReportSummary summary) throws VisionReportException {
+		className = report.getProjectName();
+		try {
+			Path parent = outputFile.toAbsolutePath().getParent();
+			if (parent != null) {
+				Files.createDirectories(parent);
+			}
+			out = new BufferedOutputStream(Files.newOutputStream(outputFile), 64 * 1024);
+			xml = OUTPUT_FACTORY.createXMLStreamWriter(out, "UTF-8");
+			xml.writeStartDocument("UTF-8", "1.0");
+			xml.writeCharacters("\n");
+			xml.writeStartElement("testsuite");
+			xml.writeAttribute("name", text(report.getReportTitle()));
+			xml.writeAttribute("tests", Integer.toString(summary.getTotal()));
+			xml.writeAttribute("failures", Integer.toString(summary.getFail()));
+			xml.writeAttribute("errors", "0");
+			xml.writeAttribute("skipped", Integer.toString(summary.getSkip()));
+			xml.writeAttribute("time", ReportSummary.seconds(summary.getDuration()));
+			xml.writeAttribute("timestamp", LocalDateTime.now().withNano(0).toString());
+			xml.writeCharacters("\n");
+		} catch (IOException | XMLStreamException e) {
+			abort();
+			throw new VisionReportException("Failed to write JUnit XML report to: " + outputFile, e);
+		}
+	}
+
+	@Override
+	public void write(TestCase testCase) throws VisionReportException {
+		try {
+			xml.writeStartElement("testcase");
+			xml.writeAttribute("name", text(testCase.getName()));
+			xml.writeAttribute("classname", text(className));
+			Duration duration = testCase.getDuration();
+			xml.writeAttribute("time", duration != null ? ReportSummary.seconds(duration) : "0");
+			if (testCase.getStatus() == Status.FAIL) {
+				LogEntry failure = firstFailure(testCase);
+				xml.writeStartElement("failure");
+				if (failure != null) {
+					xml.writeAttribute("message", text(failure.getName()));
+					writeMessage(failure);
+				}
+				xml.writeEndElement();
+			} else if (testCase.getStatus() == Status.SKIP) {
+				xml.writeEmptyElement("skipped");
+			}
+			if (!testCase.getLogs().isEmpty()) {
+				xml.writeStartElement("system-out");
+				for (LogEntry log : testCase.getLogs()) {
+					xml.writeCharacters("[" + log.getStatus() + "] " + text(log.getName()) + ": ");
+					writeMessage(log);
+					xml.writeCharacters("\n");
+				}
+				xml.writeEndElement();
+			}
+			xml.writeEndElement();
+			xml.writeCharacters("\n");
+		} catch (XMLStreamException e) {
+			throw new VisionReportException("Failed to write JUnit XML report to: " + outputFile, e);
+		}
+	}
+
+	@Override
+	public void close() throws VisionReportException {
+		try {
+			xml.writeEndElement();
+			xml.writeEndDocument();
+			xml.close();
+			out.close();
+			xml = null;
+			out = null;
+		} catch (IOException | XMLStreamException e) {
+			abort();
+			throw new VisionReportException("Failed to write JUnit XML report to: " + outputFile, e);
+		}
+	}
+
+	@Override
+	public void abort() {
+		try {
+			if (xml != null) {
+				xml.close();
+			}
+			if (out != null) {
+				out.close();
+			}
+		} catch (IOException | XMLStreamException ignored) {
+			// The report is incomplete either way.
+		} finally {
+			xml = null;
+			out = null;
+		}
+	}
+
+	/**
+	 * Writes the full message of a log. A spilled message is streamed from its
+	 * asset file in chunks; if the file is gone, the preview is written with a
+	 * marker pointing to the missing file.
+	 */
+	private void writeMessage(LogEntry log) throws XMLStreamException, VisionReportException {
+		SpilledMessage spilled = log.getSpilledMessage();
+		if (spilled == null) {
+			xml.writeCharacters(text(log.getMessage()));
+			return;
+		}
+		Reader reader;
+		try {
+			reader = spilled.openReader();
+		} catch (VisionReportException e) {
+			xml.writeCharacters(text(spilled.getPreview()));
+			xml.writeCharacters("\n[truncated, " + spilled.getLength() + " characters in total; full message: "
+					+ spilled.getAssetPath() + "]");
+			return;
+		}
+		try (Reader in = reader) {
+			int length = 0;
+			int count;
+			while ((count = in.read(chars, length, chars.length - length)) > 0) {
+				length += count;
+				// Hold back a trailing high surrogate so a pair is never split.
+				int end = Character.isHighSurrogate(chars[length - 1]) ? length - 1 : length;
+				sanitize(chars, end);
+				xml.writeCharacters(chars, 0, end);
+				if (end < length) {
+					chars[0] = chars[end];
+					length = 1;
+				} else {
+					length = 0;
+				}
+			}
+			if (length > 0) {
+				sanitize(chars, length);
+				xml.writeCharacters(chars, 0, length);
+			}
+		} catch (IOException e) {
+			throw new VisionReportException("Failed to read spilled log message at path: " + spilled.getAssetPath(),
+					e);
+		}
+	}
+
+	private static void sanitize(char[] chars, int length) {
+		for (int i = 0; i < length; i++) {
+			if (!isXmlChar(chars[i])) {
+				chars[i] = '\uFFFD';
+			}
+		}
+	}
+
+	/**
+	 * Replaces characters that are not allowed in XML 1.0 (e.g., ANSI escape
+	 * codes in console output) so that the file stays well-formed.
+	 */
+	private static String text(String value) {
+		if (value == null) {
+			return "";
+		}
+		for (int i = 0; i < value.length(); i++) {
+			if (!isXmlChar(value.charAt(i))) {
+				StringBuilder sanitized = new StringBuilder(value);
+				for (int j = i; j < sanitized.length(); j++) {
+					if (!isXmlChar(sanitized.charAt(j))) {
+						sanitized.setCharAt(j, '\uFFFD');
+					}
+				}
+				return sanitized.toString();
+			}
+		}
+		return value;
+	}
+
+	private static boolean isXmlChar(char c) {
+		return c >= 0x20 ? c != 0xFFFE && c != 0xFFFF : c == '\t' || c == '\n' || c == '\r';
+	}
+
+	private static LogEntry firstFailure(TestCase testCase) {
+		for (LogEntry log : testCase.getLogs()) {
+			if (log.getStatus() == Status.FAIL) {
+				return log;
+			}
+		}
+		return null;
+	}
+}
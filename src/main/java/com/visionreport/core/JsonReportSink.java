@@ -0,0 +1,255 @@
+package com.visionreport.core;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.visionreport.api.VisionReport;
+import com.visionreport.exception.VisionReportException;
+import com.visionreport.model.HttpPayload;
+import com.visionreport.model.LogEntry;
+import com.visionreport.model.SpilledMessage;
+import com.visionreport.model.TestCase;
+
+/**
+ * A {@link ReportSink} writing the report as a single JSON document.
+ * <p>
+ * The document is streamed: report metadata and the summary are written in
+ * {@link #open(VisionReport, ReportSummary)}, each test case is appended to the
+ * {@code testCases} array as it arrives. HTTP payloads and spilled messages
+ * are written as their metadata and preview; the full content stays in the
+ * asset store.
+ * </p>
+ *
+ * @author Vision-Report Team
+ * @version 0.0.1-SNAPSHOT
+ * @since 0.0.1
+ */
+public class JsonReportSink implements ReportSink {
+
+	private final Path outputFile;
+	private Writer writer;
+	private boolean firstTestCase;
+
+	/**
+	 * Creates a sink writing the JSON report to the given file.
+	 *
+	 * @param outputFile The JSON file to write.
+	 */
+	public JsonReportSink(Path outputFile) {
+		if (outputFile == null) {
+			throw new IllegalArgumentException("Output file cannot be null.");
+		}
+		this.outputFile = outputFile;
+	}
+
+	public Path getOutputFile() {
+		return outputFile;
+	}
+
+	@Override
+	public void open(VisionReport report, ReportSummary summary) throws VisionReportException {
+		try {
+			Path parent = outputFile.toAbsolutePath().getParent();
+			if (parent != null) {
+				Files.createDirectories(parent);
+			}
+			writer = new BufferedWriter(Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8), 64 * 1024);
+			writer.write('{');
+			field("reportType", report.getReportType().name(), true);
+			field("reportTitle", report.getReportTitle(), false);
+			field("projectName", report.getProjectName(), false);
+			field("applicationName", report.getApplicationName(), false);
+			field("environment", report.getEnvironment(), false);
+			field("domain", report.getDomain(), false);
+			field("testerName", report.getTesterName(), false);
+			writer.write(",\"businessAnalysts\":");
+			array(report.getBusinessAnalysts());
+			writer.write(",\"summary\":{\"total\":");
+			writer.write(Integer.toString(summary.getTotal()));
+			writer.write(",\"pass\":");
+			writer.write(Integer.toString(summary.getPass()));
+			writer.write(",\"fail\":");
+			writer.write(Integer.toString(summary.getFail()));
+			writer.write(",\"skip\":");
+			writer.write(Integer.toString(summary.getSkip()));
+			writer.write(",\"info\":");
+			writer.write(Integer.toString(summary.getInfo()));
+			writer.write(",\"warning\":");
+			writer.write(Integer.toString(summary.getWarning()));
+			writer.write("},\"testCases\":[");
+			firstTestCase = true;
+		} catch (IOException e) {
+			abort();
+			throw new VisionReportException("Failed to write JSON report to: " + outputFile, e);
+		}
+	}
+
+	@Override
+	public void write(TestCase testCase) throws VisionReportException {
+		try {
+			if (!firstTestCase) {
+				writer.write(',');
+			}
+			firstTestCase = false;
+			writer.write('{');
+			field("testId", testCase.getTestId(), true);
+			field("name", testCase.getName(), false);
+			field("description", testCase.getDescription(), false);
+			field("status", testCase.getStatus(), false);
+			field("startTime", testCase.getStartTime(), false);
+			field("endTime", testCase.getEndTime(), false);
+			writer.write(",\"duration\":");
+			writer.write(testCase.getDuration() != null ? ReportSummary.seconds(testCase.getDuration()) : "null");
+			writer.write(",\"tags\":");
+			array(testCase.getReadOnlyTags());
+			writer.write(",\"logs\":[");
+			boolean firstLog = true;
+			for (LogEntry log : testCase.getLogs()) {
+				if (!firstLog) {
+					writer.write(',');
+				}
+				firstLog = false;
+				writer.write('{');
+				field("logId", log.getLogId(), true);
+				field("name", log.getName(), false);
+				field("status", log.getStatus(), false);
+				field("timestamp", log.getTimestamp(), false);
+				field("message", log.getMessage(), false);
+				spilledMessage(log.getSpilledMessage());
+				field("media", log.getMedia() != null ? log.getMedia().getData() : null, false);
+				payload("request", log.getRequest());
+				payload("response", log.getResponse());
+				writer.write('}');
+			}
+			writer.write("]}");
+		} catch (IOException e) {
+			throw new VisionReportException("Failed to write JSON report to: " + outputFile, e);
+		}
+	}
+
+	@Override
+	public void close() throws VisionReportException {
+		try {
+			writer.write("]}");
+			writer.close();
+			writer = null;
+		} catch (IOException e) {
+			abort();
+			throw new VisionReportException("Failed to write JSON report to: " + outputFile, e);
+		}
+	}
+
+	@Override
+	public void abort() {
+		if (writer != null) {
+			try {
+				writer.close();
+			} catch (IOException ignored) {
+				// The report is incomplete either way.
+			}
+			writer = null;
+		}
+	}
+
+	private void spilledMessage(SpilledMessage spilled) throws IOException {
+		writer.write(",\"messageAsset\":");
+		if (spilled == null) {
+			writer.write("null");
+			return;
+		}
+		writer.write('{');
+		field("sha256", spilled.getSha256(), true);
+		writer.write(",\"length\":");
+		writer.write(Integer.toString(spilled.getLength()));
+		field("assetPath", spilled.getAssetPath(), false);
+		writer.write('}');
+	}
+
+	private void payload(String name, HttpPayload payload) throws IOException {
+		writer.write(",\"");
+		writer.write(name);
+		writer.write("\":");
+		if (payload == null) {
+			writer.write("null");
+			return;
+		}
+		writer.write('{');
+		field("contentType", payload.getContentType(), true);
+		field("format", payload.getFormat(), false);
+		writer.write(",\"size\":");
+		writer.write(Long.toString(payload.getSize()));
+		field("sha256", payload.getSha256(), false);
+		writer.write(",\"truncated\":");
+		writer.write(Boolean.toString(payload.isTruncated()));
+		field("assetPath", payload.getAssetPath(), false);
+		field("preview", payload.getPreview(), false);
+		writer.write('}');
+	}
+
+	private void field(String name, Object value, boolean first) throws IOException {
+		if (!first) {
+			writer.write(',');
+		}
+		writer.write('"');
+		writer.write(name);
+		writer.write("\":");
+		string(value != null ? value.toString() : null);
+	}
+
+	private void array(Iterable<String> values) throws IOException {
+		writer.write('[');
+		boolean first = true;
+		for (String value : values) {
+			if (!first) {
+				writer.write(',');
+			}
+			first = false;
+			string(value);
+		}
+		writer.write(']');
+	}
+
+	private void string(String value) throws IOException {
+		if (value == null) {
+			writer.write("null");
+			return;
+		}
+		writer.write('"');
+		int start = 0;
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c >= 0x20 && c != '"' && c != '\\') {
+				continue;
+			}
+			writer.write(value, start, i - start);
+			switch (c) {
+			case '"':
+				writer.write("\\\"");
+				break;
+			case '\\':
+				writer.write("\\\\");
+				break;
+			case '\n':
+				writer.write("\\n");
+				break;
+			case '\r':
+				writer.write("\\r");
+				break;
+			case '\t':
+				writer.write("\\t");
+				break;
+			default:
+				writer.write("\\u00");
+				writer.write(Character.forDigit(c >> 4, 16));
+				writer.write(Character.forDigit(c & 0xF, 16));
+			}
+			start = i + 1;
+		}
+		writer.write(value, start, value.length() - start);
+		writer.write('"');
+	}
+}
@@ -0,0 +1,251 @@
+package com.visionreport.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.visionreport.api.VisionReport;
+import com.visionreport.exception.VisionReportException;
+import com.visionreport.model.TestCase;
+
+/**
+ * Generates several output formats from a single pass over a
+ * {@link VisionReport}.
+ * <p>
+ * The report's test cases are traversed once and handed to every
+ * {@link ReportSink} through its own bounded queue, in chunks of consecutive
+ * test cases to keep the hand-off cost per test low. Each sink runs on its own
+ * thread, so the total generation time approaches that of the slowest sink
+ * rather than the sum of all of them, while the bounded queues keep a fast
+ * producer from running far ahead of a slow sink.
+ * </p>
+ * <p>
+ * The report is summarized once and the same {@link ReportSummary} is passed
+ * to every sink. The report must not be modified while it is being generated.
+ * If any sink fails, the others still run to completion and the first failure
+ * is thrown once all sinks have finished. If the traversal itself fails (e.g.,
+ * because the report was modified concurrently), all sinks are interrupted and
+ * aborted.
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * new MultiFormatReportGenerator(report)
+ * 		.addSink(new HtmlReportSink(Paths.get("reports/index.html")))
+ * 		.addSink(new JsonReportSink(Paths.get("reports/report.json")))
+ * 		.addSink(new JUnitXmlReportSink(Paths.get("reports/junit.xml")))
+ * 		.generate();
+ * }
+ * </pre>
+ *
+ * @author Vision-Report Team
+ * @version 0.0.1-SNAPSHOT
+ * @since 0.0.1
+ */
+public class MultiFormatReportGenerator implements ReportGenerator {
+
+	/** The default number of test cases buffered per sink. */
+	public static final int DEFAULT_QUEUE_CAPACITY = 256;
+
+	/** The number of test cases handed to a sink queue at once. */
+	private static final int CHUNK_SIZE = 64;
+
+	/** Marks the end of the test cases in a sink queue. */
+	private static final List<TestCase> END = new ArrayList<>(0);
+
+	/** How long a failed traversal waits for the sinks to abort. */
+	private static final long ABORT_TIMEOUT_SECONDS = 10;
+
+	private static final AtomicInteger GENERATION_COUNTER = new AtomicInteger();
+
+	private final VisionReport report;
+	private final List<ReportSink> sinks;
+	private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+	public MultiFormatReportGenerator(VisionReport report) {
+		if (report == null) {
+			throw new IllegalArgumentException("VisionReport cannot be null.");
+		}
+		this.report = report;
+		this.sinks = new ArrayList<>();
+	}
+
+	/**
+	 * Adds an output format to generate.
+	 *
+	 * @param sink The {@link ReportSink} writing the format.
+	 * @return The current {@link MultiFormatReportGenerator} instance for method
+	 *         chaining.
+	 */
+	public MultiFormatReportGenerator addSink(ReportSink sink) {
+		if (sink == null) {
+			throw new IllegalArgumentException("ReportSink cannot be null.");
+		}
+		this.sinks.add(sink);
+		return this;
+	}
+
+	/**
+	 * Sets how many test cases may be buffered for each sink before the
+	 * traversal waits for it.
+	 *
+	 * @param queueCapacity The positive queue capacity per sink.
+	 * @return The current {@link MultiFormatReportGenerator} instance for method
+	 *         chaining.
+	 */
+	public MultiFormatReportGenerator setQueueCapacity(int queueCapacity) {
+		if (queueCapacity <= 0) {
+			throw new IllegalArgumentException("Queue capacity must be positive.");
+		}
+		this.queueCapacity = queueCapacity;
+		return this;
+	}
+
+	@Override
+	public void generate() throws VisionReportException {
+		if (sinks.isEmpty()) {
+			throw new VisionReportException("No report sinks configured.");
+		}
+		int generation = GENERATION_COUNTER.incrementAndGet();
+		AtomicInteger threadCounter = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(sinks.size(), task -> {
+			Thread thread = new Thread(task,
+					"vision-report-" + generation + "-sink-" + threadCounter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			ReportSummary summary = ReportSummary.of(report.getTestCases());
+			int chunkCapacity = Math.max(1, (queueCapacity + CHUNK_SIZE - 1) / CHUNK_SIZE);
+			List<BlockingQueue<List<TestCase>>> queues = new ArrayList<>(sinks.size());
+			List<Future<Void>> results = new ArrayList<>(sinks.size());
+			for (ReportSink sink : sinks) {
+				BlockingQueue<List<TestCase>> queue = new ArrayBlockingQueue<>(chunkCapacity);
+				queues.add(queue);
+				results.add(executor.submit(new SinkWorker(sink, summary, queue)));
+			}
+			try {
+				List<TestCase> testCases = report.getTestCases();
+				for (int from = 0; from < testCases.size(); from += CHUNK_SIZE) {
+					List<TestCase> chunk = testCases.subList(from, Math.min(from + CHUNK_SIZE, testCases.size()));
+					for (BlockingQueue<List<TestCase>> queue : queues) {
+						queue.put(chunk);
+					}
+				}
+				for (BlockingQueue<List<TestCase>> queue : queues) {
+					queue.put(END);
+				}
+			} catch (Throwable t) {
+				cancel(executor);
+				if (t instanceof InterruptedException) {
+					Thread.currentThread().interrupt();
+					throw new VisionReportException("Report generation was interrupted.", t);
+				}
+				if (t instanceof Error) {
+					throw (Error) t;
+				}
+				throw new VisionReportException("Report generation failed: " + t, t);
+			}
+			awaitAll(results);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Interrupts all sink workers, which abort their sinks instead of waiting for
+	 * test cases that will never come, and waits for them to finish.
+	 */
+	private static void cancel(ExecutorService executor) {
+		executor.shutdownNow();
+		try {
+			executor.awaitTermination(ABORT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void awaitAll(List<Future<Void>> results) throws VisionReportException {
+		VisionReportException failure = null;
+		for (Future<Void> result : results) {
+			try {
+				result.get();
+			} catch (ExecutionException e) {
+				VisionReportException error = e.getCause() instanceof VisionReportException
+						? (VisionReportException) e.getCause()
+						: new VisionReportException("Report sink failed: " + e.getCause(), e.getCause());
+				if (failure == null) {
+					failure = error;
+				} else {
+					failure.addSuppressed(error);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new VisionReportException("Report generation was interrupted.", e);
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * Drives one sink from its queue. A failed sink keeps draining its queue so
+	 * that the traversal never blocks on it. An interrupted worker aborts its
+	 * sink and stops without draining, since the traversal has been cancelled.
+	 */
+	private final class SinkWorker implements Callable<Void> {
+
+		private final ReportSink sink;
+		private final ReportSummary summary;
+		private final BlockingQueue<List<TestCase>> queue;
+
+		SinkWorker(ReportSink sink, ReportSummary summary, BlockingQueue<List<TestCase>> queue) {
+			this.sink = sink;
+			this.summary = summary;
+			this.queue = queue;
+		}
+
+		@Override
+		public Void call() throws Exception {
+			boolean finished = false;
+			try {
+				sink.open(report, summary);
+				List<TestCase> chunk;
+				while ((chunk = queue.take()) != END) {
+					for (TestCase testCase : chunk) {
+						sink.write(testCase);
+					}
+				}
+				finished = true;
+				sink.close();
+				return null;
+			} catch (InterruptedException e) {
+				finished = true;
+				sink.abort();
+				throw e;
+			} catch (Throwable t) {
+				sink.abort();
+				throw t;
+			} finally {
+				if (!finished) {
+					drain();
+				}
+			}
+		}
+
+		private void drain() throws InterruptedException {
+			while (queue.take() != END) {
+				// Discard the remaining test cases of a failed sink.
+			}
+		}
+	}
+}
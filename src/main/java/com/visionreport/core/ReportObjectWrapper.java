@@ -0,0 +1,401 @@
+package com.visionreport.core;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import com.visionreport.api.VisionReport;
+import com.visionreport.model.HttpPayload;
+import com.visionreport.model.LogEntry;
+import com.visionreport.model.Media;
+import com.visionreport.model.SpilledMessage;
+import com.visionreport.model.TestCase;
+
+import freemarker.template.ObjectWrapper;
+import freemarker.template.SimpleNumber;
+import freemarker.template.SimpleScalar;
+import freemarker.template.TemplateBooleanModel;
+import freemarker.template.TemplateCollectionModel;
+import freemarker.template.TemplateHashModel;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import freemarker.template.TemplateModelIterator;
+import freemarker.template.TemplateSequenceModel;
+
+/**
+ * A reflection-free FreeMarker {@link ObjectWrapper} for the Vision-Report
+ * model.
+ * <p>
+ * FreeMarker's default wrapper introspects every class it meets through
+ * {@code java.beans} and reflection, which dominates the start-up time of
+ * short-lived report generations. This wrapper instead exposes the model
+ * classes through hand-written {@link TemplateHashModel} adapters that map each
+ * template property to its getter with a {@code switch}. Values are wrapped
+ * lazily, on access, so no part of the model is copied.
+ * </p>
+ * <p>
+ * Strings, numbers and booleans become their FreeMarker equivalents, lists and
+ * collections become sequences and collections, and string-keyed maps become
+ * hashes. Any other value, such as enums, dates and paths, is exposed as a
+ * string via {@code toString()}.
+ * </p>
+ *
+ * @author Vision-Report Team
+ * @version 0.0.1-SNAPSHOT
+ * @since 0.0.1
+ */
+final class ReportObjectWrapper implements ObjectWrapper {
+
+	static final ReportObjectWrapper INSTANCE = new ReportObjectWrapper();
+
+	private ReportObjectWrapper() {
+	}
+
+	@Override
+	public TemplateModel wrap(Object value) throws TemplateModelException {
+		if (value == null) {
+			return null;
+		}
+		if (value instanceof TemplateModel) {
+			return (TemplateModel) value;
+		}
+		if (value instanceof String) {
+			return new SimpleScalar((String) value);
+		}
+		if (value instanceof TestCase) {
+			return new TestCaseModel((TestCase) value);
+		}
+		if (value instanceof LogEntry) {
+			return new LogEntryModel((LogEntry) value);
+		}
+		if (value instanceof Number) {
+			return new SimpleNumber((Number) value);
+		}
+		if (value instanceof Boolean) {
+			return (Boolean) value ? TemplateBooleanModel.TRUE : TemplateBooleanModel.FALSE;
+		}
+		if (value instanceof List) {
+			return new ListModel((List<?>) value);
+		}
+		if (value instanceof Collection) {
+			return new CollectionModel((Collection<?>) value);
+		}
+		if (value instanceof Map) {
+			return new MapModel((Map<?, ?>) value);
+		}
+		if (value instanceof HttpPayload) {
+			return new HttpPayloadModel((HttpPayload) value);
+		}
+		if (value instanceof SpilledMessage) {
+			return new SpilledMessageModel((SpilledMessage) value);
+		}
+		if (value instanceof Media) {
+			return new MediaModel((Media) value);
+		}
+		if (value instanceof ReportSummary) {
+			return new ReportSummaryModel((ReportSummary) value);
+		}
+		if (value instanceof VisionReport) {
+			return new VisionReportModel((VisionReport) value);
+		}
+		return new SimpleScalar(value.toString());
+	}
+
+	/**
+	 * Base class of the model adapters: a hash that is never empty and resolves
+	 * its keys through {@link #value(String)}.
+	 */
+	private abstract static class PropertyModel implements TemplateHashModel {
+
+		@Override
+		public final TemplateModel get(String key) throws TemplateModelException {
+			return INSTANCE.wrap(value(key));
+		}
+
+		@Override
+		public final boolean isEmpty() {
+			return false;
+		}
+
+		/**
+		 * Gets the raw value of a property, or {@code null} if it is unknown.
+		 */
+		abstract Object value(String key) throws TemplateModelException;
+	}
+
+	private static final class VisionReportModel extends PropertyModel {
+
+		private final VisionReport report;
+
+		VisionReportModel(VisionReport report) {
+			this.report = report;
+		}
+
+		@Override
+		Object value(String key) {
+			switch (key) {
+			case "reportType":
+				return report.getReportType();
+			case "reportTitle":
+				return report.getReportTitle();
+			case "projectName":
+				return report.getProjectName();
+			case "applicationName":
+				return report.getApplicationName();
+			case "environment":
+				return report.getEnvironment();
+			case "domain":
+				return report.getDomain();
+			case "testerName":
+				return report.getTesterName();
+			case "businessAnalysts":
+				return report.getBusinessAnalysts();
+			case "testCases":
+				return report.getTestCases();
+			default:
+				return null;
+			}
+		}
+	}
+
+	private static final class TestCaseModel extends PropertyModel {
+
+		private final TestCase testCase;
+
+		TestCaseModel(TestCase testCase) {
+			this.testCase = testCase;
+		}
+
+		@Override
+		Object value(String key) {
+			switch (key) {
+			case "testId":
+				return testCase.getTestId();
+			case "name":
+				return testCase.getName();
+			case "description":
+				return testCase.getDescription();
+			case "status":
+				return testCase.getStatus();
+			case "startTime":
+				return testCase.getStartTime();
+			case "endTime":
+				return testCase.getEndTime();
+			case "duration":
+				return testCase.getDuration();
+			case "tags":
+				return testCase.getReadOnlyTags();
+			case "logs":
+				return testCase.getLogs();
+			default:
+				return null;
+			}
+		}
+	}
+
+	private static final class LogEntryModel extends PropertyModel {
+
+		private final LogEntry log;
+
+		LogEntryModel(LogEntry log) {
+			this.log = log;
+		}
+
+		@Override
+		Object value(String key) {
+			switch (key) {
+			case "logId":
+				return log.getLogId();
+			case "name":
+				return log.getName();
+			case "message":
+				return log.getMessage();
+			case "status":
+				return log.getStatus();
+			case "timestamp":
+				return log.getTimestamp();
+			case "media":
+				return log.getMedia();
+			case "request":
+				return log.getRequest();
+			case "response":
+				return log.getResponse();
+			case "spilledMessage":
+				return log.getSpilledMessage();
+			default:
+				return null;
+			}
+		}
+	}
+
+	private static final class MediaModel extends PropertyModel {
+
+		private final Media media;
+
+		MediaModel(Media media) {
+			this.media = media;
+		}
+
+		@Override
+		Object value(String key) {
+			return "data".equals(key) ? media.getData() : null;
+		}
+	}
+
+	private static final class HttpPayloadModel extends PropertyModel {
+
+		private final HttpPayload payload;
+
+		HttpPayloadModel(HttpPayload payload) {
+			this.payload = payload;
+		}
+
+		@Override
+		Object value(String key) {
+			switch (key) {
+			case "contentType":
+				return payload.getContentType();
+			case "format":
+				return payload.getFormat();
+			case "preview":
+				return payload.getPreview();
+			case "prettyPreview":
+				return payload.getPrettyPreview();
+			case "truncated":
+				return payload.isTruncated();
+			case "size":
+				return payload.getSize();
+			case "sha256":
+				return payload.getSha256();
+			case "assetPath":
+				return payload.getAssetPath();
+			default:
+				return null;
+			}
+		}
+	}
+
+	private static final class SpilledMessageModel extends PropertyModel {
+
+		private final SpilledMessage message;
+
+		SpilledMessageModel(SpilledMessage message) {
+			this.message = message;
+		}
+
+		@Override
+		Object value(String key) {
+			switch (key) {
+			case "preview":
+				return message.getPreview();
+			case "length":
+				return message.getLength();
+			case "sha256":
+				return message.getSha256();
+			case "assetPath":
+				return message.getAssetPath();
+			default:
+				return null;
+			}
+		}
+	}
+
+	private static final class ReportSummaryModel extends PropertyModel {
+
+		private final ReportSummary summary;
+
+		ReportSummaryModel(ReportSummary summary) {
+			this.summary = summary;
+		}
+
+		@Override
+		Object value(String key) {
+			switch (key) {
+			case "total":
+				return summary.getTotal();
+			case "pass":
+				return summary.getPass();
+			case "fail":
+				return summary.getFail();
+			case "skip":
+				return summary.getSkip();
+			case "info":
+				return summary.getInfo();
+			case "warning":
+				return summary.getWarning();
+			case "duration":
+				return summary.getDuration();
+			default:
+				return null;
+			}
+		}
+	}
+
+	/** Exposes a string-keyed map, such as a template data model, as a hash. */
+	private static final class MapModel implements TemplateHashModel {
+
+		private final Map<?, ?> map;
+
+		MapModel(Map<?, ?> map) {
+			this.map = map;
+		}
+
+		@Override
+		public TemplateModel get(String key) throws TemplateModelException {
+			return INSTANCE.wrap(map.get(key));
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return map.isEmpty();
+		}
+	}
+
+	/** Exposes a list as an indexed sequence without copying it. */
+	private static final class ListModel implements TemplateSequenceModel {
+
+		private final List<?> list;
+
+		ListModel(List<?> list) {
+			this.list = list;
+		}
+
+		@Override
+		public TemplateModel get(int index) throws TemplateModelException {
+			return index >= 0 && index < list.size() ? INSTANCE.wrap(list.get(index)) : null;
+		}
+
+		@Override
+		public int size() {
+			return list.size();
+		}
+	}
+
+	/** Exposes any other collection (e.g., a tag set) for iteration. */
+	private static final class CollectionModel implements TemplateCollectionModel {
+
+		private final Collection<?> collection;
+
+		CollectionModel(Collection<?> collection) {
+			this.collection = collection;
+		}
+
+		@Override
+		public TemplateModelIterator iterator() {
+			Iterator<?> iterator = collection.iterator();
+			return new TemplateModelIterator() {
+
+				@Override
+				public TemplateModel next() throws TemplateModelException {
+					return INSTANCE.wrap(iterator.next());
+				}
+
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,57 @@
+package com.visionreport.core;
+
+import com.visionreport.api.VisionReport;
+import com.visionreport.exception.VisionReportException;
+import com.visionreport.model.TestCase;
+
+/**
+ * Receives a report one test case at a time and writes it in a specific
+ * output format.
+ * <p>
+ * A sink is driven through a fixed lifecycle:
+ * {@link #open(VisionReport, ReportSummary)} once, {@link #write(TestCase)} for
+ * every test case in report order, and then either {@link #close()} on success
+ * or {@link #abort()} on failure. All calls for one generation are made from
+ * the same thread, so implementations need not be thread-safe. This lets
+ * {@link MultiFormatReportGenerator} feed several sinks from a single pass over
+ * the report.
+ * </p>
+ *
+ * @author Vision-Report Team
+ * @version 0.0.1-SNAPSHOT
+ * @since 0.0.1
+ */
+public interface ReportSink {
+
+	/**
+	 * Prepares the output and writes everything that precedes the test cases.
+	 * The test cases themselves are delivered through {@link #write(TestCase)}.
+	 * The summary is computed once by the caller and shared by all sinks of a
+	 * generation, so sinks need not walk the report to get its totals.
+	 *
+	 * @param report  The report being generated.
+	 * @param summary The totals of the report's test cases.
+	 * @throws VisionReportException if the output cannot be opened.
+	 */
+	void open(VisionReport report, ReportSummary summary) throws VisionReportException;
+
+	/**
+	 * Writes a single test case.
+	 *
+	 * @param testCase The next test case of the report.
+	 * @throws VisionReportException if the test case cannot be written.
+	 */
+	void write(TestCase testCase) throws VisionReportException;
+
+	/**
+	 * Writes everything that follows the test cases and releases all resources.
+	 *
+	 * @throws VisionReportException if the output cannot be completed.
+	 */
+	void close() throws VisionReportException;
+
+	/**
+	 * Releases all resources after a failed generation. Must not throw.
+	 */
+	void abort();
+}
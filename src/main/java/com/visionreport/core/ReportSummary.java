@@ -0,0 +1,120 @@
+package com.visionreport.core;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import com.visionreport.model.Status;
+import com.visionreport.model.TestCase;
+
+/**
+ * Aggregated counts of a report, computed before the test cases are written so
+ * that formats which need totals up front (e.g., the HTML dashboard or the
+ * JUnit {@code <testsuite>} attributes) can be streamed.
+ *
+ * @author Vision-Report Team
+ * @version 0.0.1-SNAPSHOT
+ * @since 0.0.1
+ */
+public final class ReportSummary {
+
+	private final int total;
+	private final int[] counts;
+	private final Duration duration;
+
+	private ReportSummary(int total, int[] counts, Duration duration) {
+		this.total = total;
+		this.counts = counts;
+		this.duration = duration;
+	}
+
+	/**
+	 * Counts the test cases per status and sums their durations.
+	 *
+	 * @param testCases The test cases of the report.
+	 * @return The summary of the given test cases.
+	 */
+	public static ReportSummary of(List<TestCase> testCases) {
+		int[] counts = new int[Status.values().length];
+		long nanos = 0;
+		for (TestCase testCase : testCases) {
+			if (testCase.getStatus() != null) {
+				counts[testCase.getStatus().ordinal()]++;
+			}
+			if (testCase.getDuration() != null) {
+				nanos += testCase.getDuration().toNanos();
+			}
+		}
+		return new ReportSummary(testCases.size(), counts, Duration.ofNanos(nanos));
+	}
+
+	/**
+	 * Adds test cases that are only known by their status and duration (e.g.,
+	 * fragments carried forward from a previous generation).
+	 *
+	 * @param extraTotal  The number of additional test cases.
+	 * @param extraCounts The additional counts, indexed by status ordinal.
+	 * @param extraNanos  The sum of the additional durations, in nanoseconds.
+	 * @return A new summary including the additional test cases.
+	 */
+	ReportSummary plus(int extraTotal, int[] extraCounts, long extraNanos) {
+		if (extraTotal == 0) {
+			return this;
+		}
+		int[] sums = counts.clone();
+		for (int i = 0; i < sums.length; i++) {
+			sums[i] += extraCounts[i];
+		}
+		return new ReportSummary(total + extraTotal, sums, duration.plusNanos(extraNanos));
+	}
+
+	public int getTotal() {
+		return total;
+	}
+
+	/**
+	 * Gets the number of test cases with the given status.
+	 *
+	 * @param status The status to count.
+	 * @return The number of test cases with that status.
+	 */
+	public int getCount(Status status) {
+		return counts[status.ordinal()];
+	}
+
+	public int getPass() {
+		return getCount(Status.PASS);
+	}
+
+	public int getFail() {
+		return getCount(Status.FAIL);
+	}
+
+	public int getSkip() {
+		return getCount(Status.SKIP);
+	}
+
+	public int getInfo() {
+		return getCount(Status.INFO);
+	}
+
+	public int getWarning() {
+		return getCount(Status.WARNING);
+	}
+
+	/**
+	 * Gets the sum of all test case durations.
+	 *
+	 * @return The total duration.
+	 */
+	public Duration getDuration() {
+		return duration;
+	}
+
+	/**
+	 * Formats a duration as seconds with millisecond precision (e.g., "1.250").
+	 */
+	static String seconds(Duration duration) {
+		return BigDecimal.valueOf(duration.toMillis(), 3).toPlainString();
+	}
+}
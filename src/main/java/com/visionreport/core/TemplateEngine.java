@@ -0,0 +1,90 @@
+package com.visionreport.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+
+import com.visionreport.exception.VisionReportException;
+
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import freemarker.template.TemplateExceptionHandler;
+
+/**
+ * Holds the shared FreeMarker configuration used by the report generators.
+ * <p>
+ * Templates are loaded from the {@code /templates} folder of the classpath.
+ * Files ending in {@code .ftlh} are HTML-escaped automatically.
+ * </p>
+ *
+ * @author Vision-Report Team
+ * @version 0.0.1-SNAPSHOT
+ * @since 0.0.1
+ */
+final class TemplateEngine {
+
+	static final String TEMPLATE_ROOT = "/templates";
+
+	private static final Configuration CONFIGURATION = createConfiguration();
+
+	private TemplateEngine() {
+	}
+
+	private static Configuration createConfiguration() {
+		Configuration configuration = new Configuration(Configuration.VERSION_2_3_34);
+		configuration.setClassForTemplateLoading(TemplateEngine.class, TEMPLATE_ROOT);
+		configuration.setDefaultEncoding("UTF-8");
+		configuration.setOutputEncoding("UTF-8");
+		configuration.setLocale(Locale.ROOT);
+		configuration.setLocalizedLookup(false);
+		configuration.setTemplateExceptionHandler(TemplateExceptionHandler.RETHROW_HANDLER);
+		configuration.setLogTemplateExceptions(false);
+		configuration.setWrapUncheckedExceptions(true);
+		configuration.setFallbackOnNullLoopVariable(false);
+		configuration.setObjectWrapper(ReportObjectWrapper.INSTANCE);
+		configuration.setTemplateUpdateDelayMilliseconds(Long.MAX_VALUE);
+		return configuration;
+	}
+
+	/**
+	 * Loads a template from the classpath template folder.
+	 *
+	 * @param name The template file name (e.g., "test-case.ftlh").
+	 * @return The parsed template.
+	 * @throws VisionReportException if the template cannot be loaded or parsed.
+	 */
+	static Template getTemplate(String name) throws VisionReportException {
+		try {
+			return CONFIGURATION.getTemplate(name);
+		} catch (IOException e) {
+			throw new VisionReportException("Failed to load report template: " + name, e);
+		}
+	}
+
+	/**
+	 * Computes the SHA-256 hash of a template's source, used to detect template
+	 * changes between report generations.
+	 *
+	 * @param name The template file name.
+	 * @return The lowercase hexadecimal hash of the template source.
+	 * @throws VisionReportException if the template cannot be read.
+	 */
+	static String sourceHash(String name) throws VisionReportException {
+		try (InputStream in = TemplateEngine.class.getResourceAsStream(TEMPLATE_ROOT + "/" + name)) {
+			if (in == null) {
+				throw new VisionReportException("Report template not found on classpath: " + name);
+			}
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+			return ContentHasher.toHex(digest.digest());
+		} catch (IOException | NoSuchAlgorithmException e) {
+			throw new VisionReportException("Failed to read report template: " + name, e);
+		}
+	}
+}
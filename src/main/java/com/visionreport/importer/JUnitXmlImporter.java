@@ -0,0 +1,373 @@
+package com.visionreport.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.visionreport.api.VisionReport;
+import com.visionreport.exception.VisionReportException;
+import com.visionreport.model.Status;
+import com.visionreport.model.TestCase;
+
+/**
+ * Imports test results from JUnit XML files into a {@link VisionReport}.
+ * <p>
+ * The file is read with a StAX cursor, so no DOM tree of the document is
+ * ever built. Parsed test cases are handed to the report in batches through
+ * {@link VisionReport#addTests(java.util.Collection)}. The format written by
+ * Maven Surefire, Gradle, TestNG and most other tools is supported, including
+ * nested {@code <testsuites>}.
+ * </p>
+ * <p>
+ * Each test case gets a stable ID made of its class name and name (e.g.,
+ * {@code com.example.LoginTest.validLogin}), with a {@code [n]} suffix when the
+ * ID is already taken in the report (e.g., by an earlier import), so that the
+ * same test keeps its ID across imports. This is
+ * what lets incremental HTML generation match a re-run against the previous
+ * report.
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * VisionReport report = new VisionReport(ReportType.UI_TESTING);
+ * int imported = new JUnitXmlImporter(report).importFile("target/surefire-reports/TEST-LoginTest.xml");
+ * }
+ * </pre>
+ *
+ * @author Vision-Report Team
+ * @version 0.0.1-SNAPSHOT
+ * @since 0.0.1
+ */
+public class JUnitXmlImporter {
+
+	/** The number of parsed test cases handed to the report at once. */
+	private static final int BATCH_SIZE = 512;
+
+	/**
+	 * The maximum number of test cases the report is pre-sized for, whatever the
+	 * {@code tests} attributes of the document claim.
+	 */
+	private static final int MAX_PRESIZED_TESTS = 100_000;
+
+	/** The size of the smallest possible {@code <testcase name=""/>} element. */
+	private static final int MIN_BYTES_PER_TEST_CASE = 20;
+
+	private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+	private final VisionReport report;
+
+	/** The explicit test IDs in the report, to keep imported IDs unique. */
+	private final Set<String> testIds = new HashSet<>();
+
+	/** The last {@code [n]} suffix used per repeated test ID. */
+	private final Map<String, Integer> repeats = new HashMap<>();
+
+	/** The number of report test cases already recorded in {@link #testIds}. */
+	private int knownTests;
+
+	public JUnitXmlImporter(VisionReport report) {
+		if (report == null) {
+			throw new IllegalArgumentException("VisionReport cannot be null.");
+		}
+		this.report = report;
+	}
+
+	private static XMLInputFactory createInputFactory() {
+		XMLInputFactory factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+		factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+		return factory;
+	}
+
+	/**
+	 * Imports all test cases from a JUnit XML file.
+	 *
+	 * @param path The relative or absolute path to the XML file.
+	 * @return The number of imported test cases.
+	 * @throws VisionReportException if the file cannot be read or parsed.
+	 */
+	public int importFile(String path) throws VisionReportException {
+		Path filePath;
+		try {
+			filePath = Paths.get(path);
+		} catch (InvalidPathException e) {
+			throw new VisionReportException("Invalid JUnit XML file path: " + path, e);
+		}
+		if (!Files.isReadable(filePath)) {
+			throw new VisionReportException("JUnit XML file does not exist or is not readable at path: " + path);
+		}
+		try (InputStream in = Files.newInputStream(filePath)) {
+			long maxTests = Files.size(filePath) / MIN_BYTES_PER_TEST_CASE;
+			return importStream(in, (int) Math.min(maxTests, MAX_PRESIZED_TESTS));
+		} catch (IOException e) {
+			throw new VisionReportException("Failed to read JUnit XML file at path: " + path, e);
+		}
+	}
+
+	/**
+	 * Imports all test cases from a JUnit XML document. The stream is not closed.
+	 *
+	 * @param in The stream holding the XML document.
+	 * @return The number of imported test cases.
+	 * @throws VisionReportException if the document cannot be parsed.
+	 */
+	public int importStream(InputStream in) throws VisionReportException {
+		return importStream(in, MAX_PRESIZED_TESTS);
+	}
+
+	private int importStream(InputStream in, int presizeLimit) throws VisionReportException {
+		XMLStreamReader reader = null;
+		try {
+			reader = INPUT_FACTORY.createXMLStreamReader(in);
+			return read(reader, presizeLimit);
+		} catch (XMLStreamException e) {
+			throw new VisionReportException("Failed to parse JUnit XML: " + e.getMessage(), e);
+		} finally {
+			if (reader != null) {
+				try {
+					reader.close();
+				} catch (XMLStreamException ignored) {
+					// Closing the reader never closes the underlying stream.
+				}
+			}
+		}
+	}
+
+	/**
+	 * Reads the document. The {@code tests} attribute of each suite is only a
+	 * sizing hint: the total pre-sized capacity never exceeds
+	 * {@code presizeLimit}, so a forged count cannot exhaust memory.
+	 */
+	private int read(XMLStreamReader reader, int presizeLimit) throws XMLStreamException {
+		List<TestCase> batch = new ArrayList<>(BATCH_SIZE);
+		Deque<Suite> suites = new ArrayDeque<>();
+		recordExistingTestIds();
+		TestCase current = null;
+		// The nesting depth below the current <testcase>; results are only read
+		// from its direct children.
+		int depth = 0;
+		int imported = 0;
+		int presizeBudget = presizeLimit;
+		while (reader.hasNext()) {
+			int event = reader.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				String element = reader.getLocalName();
+				if (current != null) {
+					if (depth > 0 || !readResult(reader, element, current)) {
+						depth++;
+					}
+				} else if ("testsuite".equals(element)) {
+					Suite suite = new Suite(reader.getAttributeValue(null, "name"),
+							parseTimestamp(reader.getAttributeValue(null, "timestamp")));
+					if (suite.name == null && !suites.isEmpty()) {
+						suite = new Suite(suites.peek().name, suite.timestamp);
+					}
+					suites.push(suite);
+					int presize = Math.min(parseCount(reader.getAttributeValue(null, "tests")), presizeBudget);
+					if (presize > 0) {
+						report.ensureCapacity(presize);
+						presizeBudget -= presize;
+					}
+				} else if ("testcase".equals(element)) {
+					current = startTestCase(reader, suites.peek());
+					current.setTestId(uniqueTestId(current.getTestId()));
+				}
+			} else if (event == XMLStreamConstants.END_ELEMENT) {
+				String element = reader.getLocalName();
+				if (depth > 0) {
+					depth--;
+				} else if ("testcase".equals(element) && current != null) {
+					batch.add(current);
+					current = null;
+					imported++;
+					if (batch.size() == BATCH_SIZE) {
+						report.addTests(batch);
+						batch.clear();
+					}
+				} else if ("testsuite".equals(element) && !suites.isEmpty()) {
+					suites.pop();
+				}
+			}
+		}
+		report.addTests(batch);
+		knownTests = report.getTestCases().size();
+		return imported;
+	}
+
+	/**
+	 * Records the explicit IDs of test cases added to the report since the last
+	 * import, whether by this importer or otherwise.
+	 */
+	private void recordExistingTestIds() {
+		List<TestCase> testCases = report.getTestCases();
+		for (int i = Math.min(knownTests, testCases.size()); i < testCases.size(); i++) {
+			TestCase testCase = testCases.get(i);
+			if (testCase.hasExplicitTestId()) {
+				testIds.add(testCase.getTestId());
+			}
+		}
+		knownTests = testCases.size();
+	}
+
+	private String uniqueTestId(String testId) {
+		if (testIds.add(testId)) {
+			return testId;
+		}
+		int repeat = repeats.getOrDefault(testId, 1);
+		String unique;
+		do {
+			unique = testId + "[" + ++repeat + "]";
+		} while (!testIds.add(unique));
+		repeats.put(testId, repeat);
+		return unique;
+	}
+
+	private TestCase startTestCase(XMLStreamReader reader, Suite suite) {
+		String name = reader.getAttributeValue(null, "name");
+		String className = reader.getAttributeValue(null, "classname");
+		TestCase testCase = new TestCase(name != null ? name : "Unnamed test");
+		// Spill long output to the report's store, not the default one.
+		testCase.setAssetStore(report.getAssetStore());
+		testCase.setTestId(className != null ? className + "." + testCase.getName() : testCase.getName());
+		testCase.setDescription(className);
+		testCase.setStatus(Status.PASS);
+		Duration duration = parseDuration(reader.getAttributeValue(null, "time"));
+		if (duration != null) {
+			testCase.setDuration(duration);
+		}
+		if (suite != null) {
+			if (suite.name != null) {
+				testCase.setTags(suite.name);
+			}
+			if (suite.timestamp != null) {
+				testCase.setStartTime(suite.timestamp);
+				if (duration != null) {
+					testCase.setEndTime(suite.timestamp.plus(duration));
+				}
+			}
+		}
+		return testCase;
+	}
+
+	/**
+	 * Maps a direct child element of {@code <testcase>} to the test status and a
+	 * log entry, consuming the element up to its end tag.
+	 *
+	 * @return {@code false} if the element is not a result and was not consumed.
+	 */
+	private static boolean readResult(XMLStreamReader reader, String element, TestCase testCase)
+			throws XMLStreamException {
+		String message = reader.getAttributeValue(null, "message");
+		String type = reader.getAttributeValue(null, "type");
+		switch (element) {
+		case "failure":
+		case "error":
+			testCase.setStatus(Status.FAIL);
+			testCase.addLog(Status.FAIL, type != null ? type : capitalize(element))
+					.setMessage(join(message, reader.getElementText()));
+			break;
+		case "skipped":
+			if (testCase.getStatus() != Status.FAIL) {
+				testCase.setStatus(Status.SKIP);
+			}
+			testCase.addLog(Status.SKIP, "Skipped").setMessage(join(message, reader.getElementText()));
+			break;
+		case "system-out":
+			testCase.addLog(Status.INFO, "System Out").setMessage(reader.getElementText());
+			break;
+		case "system-err":
+			testCase.addLog(Status.WARNING, "System Err").setMessage(reader.getElementText());
+			break;
+		default:
+			// Unknown elements (e.g., properties or Surefire's flakyFailure) are
+			// skipped together with their children.
+			return false;
+		}
+		return true;
+	}
+
+	private static String join(String message, String text) {
+		if (message == null || message.trim().isEmpty()) {
+			return text;
+		}
+		if (text == null || text.trim().isEmpty()) {
+			return message;
+		}
+		return text.contains(message) ? text : message + "\n" + text;
+	}
+
+	private static String capitalize(String value) {
+		return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+	}
+
+	private static int parseCount(String value) {
+		if (value == null) {
+			return 0;
+		}
+		try {
+			return Integer.parseInt(value.trim());
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	private static Duration parseDuration(String seconds) {
+		if (seconds == null || seconds.isEmpty()) {
+			return null;
+		}
+		try {
+			String value = seconds.trim();
+			if (value.indexOf(',') >= 0) {
+				// "1,234.5" uses grouping commas; "0,5" uses a decimal comma.
+				value = value.indexOf('.') >= 0 ? value.replace(",", "") : value.replace(',', '.');
+			}
+			double parsed = Double.parseDouble(value);
+			return Duration.ofNanos((long) (parsed * 1_000_000_000L));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private static LocalDateTime parseTimestamp(String timestamp) {
+		if (timestamp == null || timestamp.isEmpty()) {
+			return null;
+		}
+		try {
+			return LocalDateTime.parse(timestamp);
+		} catch (DateTimeParseException e) {
+			return null;
+		}
+	}
+
+	/** The name and start time of an open {@code <testsuite>} element. */
+	private static final class Suite {
+
+		final String name;
+		final LocalDateTime timestamp;
+
+		Suite(String name, LocalDateTime timestamp) {
+			this.name = name;
+			this.timestamp = timestamp;
+		}
+	}
+}
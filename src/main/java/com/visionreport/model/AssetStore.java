@@ -0,0 +1,300 @@
+package com.visionreport.model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.GZIPOutputStream;
+
+import com.visionreport.exception.VisionReportException;
+
+/**
+ * Stores large report attachments (e.g., HTTP request and response bodies) as
+ * files on disk instead of keeping them on the heap.
+ * <p>
+ * Content is streamed to a temporary file while its SHA-256 hash is computed,
+ * and the file is then renamed to {@code <hash><extension>}. Identical content
+ * is therefore written only once, no matter how often it is attached. Only a
+ * short preview of each asset is kept in memory by the reporting model.
+ * </p>
+ * <p>
+ * Log messages longer than the message threshold are stored the same way,
+ * GZIP-compressed, as {@link SpilledMessage} objects. Spilled messages are
+ * also deduplicated in memory, so repeated stack traces share one instance.
+ * </p>
+ *
+ * @author Vision-Report Team
+ * @version 0.0.1-SNAPSHOT
+ * @since 0.0.1
+ */
+public final class AssetStore {
+
+	/** The directory used when no asset directory has been configured. */
+	public static final String DEFAULT_DIRECTORY = "vision-report-assets";
+
+	/** The default message length above which log messages are spilled. */
+	public static final int DEFAULT_MESSAGE_THRESHOLD = 16 * 1024;
+
+	/** The default number of characters kept inline for a spilled message. */
+	public static final int DEFAULT_MESSAGE_PREVIEW = 2048;
+
+	private static final int BUFFER_SIZE = 8192;
+	private static final int MAX_CACHED_MESSAGES = 10_000;
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	private static volatile AssetStore defaultStore;
+
+	private final Path directory;
+	private final Map<String, SpilledMessage> spilledMessages = new ConcurrentHashMap<>();
+	private volatile int messageThreshold = DEFAULT_MESSAGE_THRESHOLD;
+	private volatile int messagePreview = DEFAULT_MESSAGE_PREVIEW;
+
+	/**
+	 * Creates an asset store writing to the given directory. The directory is
+	 * created on first use.
+	 *
+	 * @param directory The directory that will hold the asset files.
+	 */
+	public AssetStore(Path directory) {
+		if (directory == null) {
+			throw new IllegalArgumentException("Asset directory cannot be null.");
+		}
+		this.directory = directory;
+	}
+
+	/**
+	 * Gets the shared asset store writing to {@value #DEFAULT_DIRECTORY} in the
+	 * working directory.
+	 *
+	 * @return The default {@link AssetStore}.
+	 */
+	public static AssetStore getDefault() {
+		AssetStore store = defaultStore;
+		if (store == null) {
+			synchronized (AssetStore.class) {
+				store = defaultStore;
+				if (store == null) {
+					store = new AssetStore(Paths.get(DEFAULT_DIRECTORY));
+					defaultStore = store;
+				}
+			}
+		}
+		return store;
+	}
+
+	public Path getDirectory() {
+		return directory;
+	}
+
+	public int getMessageThreshold() {
+		return messageThreshold;
+	}
+
+	/**
+	 * Sets the message length above which log messages are spilled to disk. Use
+	 * {@link Integer#MAX_VALUE} to keep all messages in memory.
+	 *
+	 * @param messageThreshold The threshold in characters.
+	 * @return The current {@link AssetStore} instance for method chaining.
+	 */
+	public AssetStore setMessageThreshold(int messageThreshold) {
+		if (messageThreshold <= 0) {
+			throw new IllegalArgumentException("Message threshold must be positive.");
+		}
+		this.messageThreshold = messageThreshold;
+		return this;
+	}
+
+	public int getMessagePreview() {
+		return messagePreview;
+	}
+
+	/**
+	 * Sets how many characters of a spilled message are kept in memory. The
+	 * preview never exceeds the message threshold, so a spilled message is
+	 * always shorter in memory than on disk.
+	 *
+	 * @param messagePreview The preview length in characters.
+	 * @return The current {@link AssetStore} instance for method chaining.
+	 */
+	public AssetStore setMessagePreview(int messagePreview) {
+		if (messagePreview < 0) {
+			throw new IllegalArgumentException("Message preview cannot be negative.");
+		}
+		this.messagePreview = messagePreview;
+		return this;
+	}
+
+	/**
+	 * Resolves the location of a stored asset.
+	 *
+	 * @param fileName The file name returned when the asset was stored.
+	 * @return The path of the asset file.
+	 */
+	public Path resolve(String fileName) {
+		return directory.resolve(fileName);
+	}
+
+	/**
+	 * Streams the content to disk, capturing a preview of at most
+	 * {@code previewLimit} bytes on the way.
+	 */
+	StoredAsset store(InputStream content, String extension, int previewLimit) throws VisionReportException {
+		if (content == null) {
+			throw new VisionReportException("Asset content cannot be null.");
+		}
+		Path temp = null;
+		try {
+			Files.createDirectories(directory);
+			temp = newTempFile("asset-");
+			MessageDigest digest = newDigest();
+			ByteArrayOutputStream preview = new ByteArrayOutputStream(Math.min(previewLimit, BUFFER_SIZE));
+			byte[] buffer = new byte[BUFFER_SIZE];
+			long size = 0;
+			try (OutputStream out = Files.newOutputStream(temp)) {
+				int read;
+				while ((read = content.read(buffer)) != -1) {
+					digest.update(buffer, 0, read);
+					out.write(buffer, 0, read);
+					if (size < previewLimit) {
+						preview.write(buffer, 0, (int) Math.min(read, previewLimit - size));
+					}
+					size += read;
+				}
+			}
+			String hash = toHex(digest.digest());
+			String fileName = hash + extension;
+			Path target = directory.resolve(fileName);
+			if (Files.exists(target)) {
+				Files.delete(temp);
+			} else {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+			return new StoredAsset(fileName, hash, size, preview.toByteArray());
+		} catch (IOException e) {
+			deleteQuietly(temp);
+			throw new VisionReportException("Failed to write asset to directory: " + directory, e);
+		}
+	}
+
+	/**
+	 * Compresses a message to disk, or returns the existing instance if the same
+	 * message was spilled before.
+	 */
+	SpilledMessage spill(String message) throws VisionReportException {
+		byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+		String hash = toHex(newDigest().digest(bytes));
+		SpilledMessage spilled = spilledMessages.get(hash);
+		if (spilled != null) {
+			return spilled;
+		}
+		Path target = directory.resolve(hash + ".txt.gz");
+		if (!Files.exists(target)) {
+			Path temp = null;
+			try {
+				Files.createDirectories(directory);
+				temp = newTempFile("message-");
+				try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp), BUFFER_SIZE)) {
+					out.write(bytes);
+				}
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+			} catch (IOException e) {
+				deleteQuietly(temp);
+				throw new VisionReportException("Failed to write log message to directory: " + directory, e);
+			}
+		}
+		int previewLength = previewLength(message, Math.min(messagePreview, messageThreshold));
+		spilled = new SpilledMessage(message.substring(0, previewLength), message.length(), hash, target);
+		if (spilledMessages.size() < MAX_CACHED_MESSAGES) {
+			SpilledMessage previous = spilledMessages.putIfAbsent(hash, spilled);
+			if (previous != null) {
+				return previous;
+			}
+		}
+		return spilled;
+	}
+
+	/**
+	 * Shortens the preview by one character if it would end in the middle of a
+	 * surrogate pair.
+	 */
+	private static int previewLength(String message, int limit) {
+		int length = Math.min(limit, message.length());
+		if (length > 0 && length < message.length() && Character.isHighSurrogate(message.charAt(length - 1))) {
+			length--;
+		}
+		return length;
+	}
+
+	/**
+	 * Creates a uniquely named temporary file in the asset directory. Unlike
+	 * {@link Files#createTempFile}, the file gets default permissions so that
+	 * published assets remain readable by web servers.
+	 */
+	private Path newTempFile(String prefix) throws IOException {
+		while (true) {
+			Path temp = directory.resolve(prefix + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+			try {
+				return Files.createFile(temp);
+			} catch (FileAlreadyExistsException e) {
+				// Try another name.
+			}
+		}
+	}
+
+	static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not supported by this JVM.", e);
+		}
+	}
+
+	static String toHex(byte[] bytes) {
+		char[] chars = new char[bytes.length * 2];
+		for (int i = 0; i < bytes.length; i++) {
+			chars[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+			chars[i * 2 + 1] = HEX[bytes[i] & 0xF];
+		}
+		return new String(chars);
+	}
+
+	private static void deleteQuietly(Path path) {
+		if (path != null) {
+			try {
+				Files.deleteIfExists(path);
+			} catch (IOException ignored) {
+				// The temporary file is left behind; it does not affect the report.
+			}
+		}
+	}
+
+	/**
+	 * The result of storing an asset: its file name, hash, size and preview.
+	 */
+	static final class StoredAsset {
+
+		final String fileName;
+		final String sha256;
+		final long size;
+		final byte[] preview;
+
+		StoredAsset(String fileName, String sha256, long size, byte[] preview) {
+			this.fileName = fileName;
+			this.sha256 = sha256;
+			this.size = size;
+			this.preview = preview;
+		}
+	}
+}
@@ -0,0 +1,229 @@
+package com.visionreport.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import com.visionreport.exception.VisionReportException;
+
+/**
+ * Represents an HTTP request or response body attached to a {@link LogEntry}.
+ * <p>
+ * The full body is streamed to an {@link AssetStore} file and never kept on
+ * the heap. The model only holds a truncated preview, the body size and its
+ * SHA-256 hash. The preview is pretty-printed on demand via
+ * {@link #getPrettyPreview()}, so formatted text is only built while the report
+ * is being rendered.
+ * </p>
+ *
+ * @author Vision-Report Team
+ * @version 0.0.1-SNAPSHOT
+ * @since 0.0.1
+ */
+public class HttpPayload {
+
+	/** The default number of body bytes kept as an in-memory preview. */
+	public static final int DEFAULT_PREVIEW_BYTES = 4096;
+
+	private final String contentType;
+	private final PayloadFormat format;
+	private final String preview;
+	private final boolean truncated;
+	private final long size;
+	private final String sha256;
+	private final Path assetPath;
+
+	/**
+	 * Private constructor to enforce the use of the static factory methods.
+	 */
+	private HttpPayload(String contentType, PayloadFormat format, String preview, boolean truncated, long size,
+			String sha256, Path assetPath) {
+		this.contentType = contentType;
+		this.format = format;
+		this.preview = preview;
+		this.truncated = truncated;
+		this.size = size;
+		this.sha256 = sha256;
+		this.assetPath = assetPath;
+	}
+
+	/**
+	 * Creates a payload by streaming the body to the given asset store.
+	 * <p>
+	 * The stream is read to the end but not closed.
+	 * </p>
+	 *
+	 * @param store       The {@link AssetStore} that will hold the full body.
+	 * @param body        The body content.
+	 * @param contentType The content type of the body (e.g., "application/json").
+	 * @return A new {@link HttpPayload} instance.
+	 * @throws VisionReportException if the body cannot be read or written.
+	 */
+	public static HttpPayload fromStream(AssetStore store, InputStream body, String contentType)
+			throws VisionReportException {
+		return fromStream(store, body, contentType, DEFAULT_PREVIEW_BYTES);
+	}
+
+	/**
+	 * Creates a payload by streaming the body to the given asset store, keeping a
+	 * preview of at most {@code previewBytes} bytes.
+	 *
+	 * @param store        The {@link AssetStore} that will hold the full body.
+	 * @param body         The body content.
+	 * @param contentType  The content type of the body.
+	 * @param previewBytes The maximum number of bytes kept as a preview.
+	 * @return A new {@link HttpPayload} instance.
+	 * @throws VisionReportException if the body cannot be read or written.
+	 */
+	public static HttpPayload fromStream(AssetStore store, InputStream body, String contentType, int previewBytes)
+			throws VisionReportException {
+		if (store == null) {
+			throw new VisionReportException("An asset store is required to attach an HTTP payload.");
+		}
+		if (previewBytes < 0) {
+			throw new IllegalArgumentException("Preview size cannot be negative.");
+		}
+		PayloadFormat format = PayloadFormat.fromContentType(contentType);
+		AssetStore.StoredAsset asset = store.store(body, format.getExtension(), previewBytes);
+		boolean truncated = asset.size > asset.preview.length;
+		String preview = decodePreview(asset.preview, charsetOf(contentType), truncated);
+		return new HttpPayload(contentType, format, preview, truncated, asset.size,
+				asset.sha256, store.resolve(asset.fileName));
+	}
+
+	/**
+	 * Creates a payload from a body that is already held as a String.
+	 *
+	 * @param store       The {@link AssetStore} that will hold the full body.
+	 * @param body        The body content.
+	 * @param contentType The content type of the body.
+	 * @return A new {@link HttpPayload} instance.
+	 * @throws VisionReportException if the body cannot be written.
+	 */
+	public static HttpPayload fromString(AssetStore store, String body, String contentType)
+			throws VisionReportException {
+		if (body == null) {
+			throw new VisionReportException("HTTP payload body cannot be null.");
+		}
+		return fromStream(store, new ByteArrayInputStream(body.getBytes(charsetOf(contentType))), contentType);
+	}
+
+	/**
+	 * Determines the charset declared by a content type such as
+	 * {@code text/xml; charset=ISO-8859-1}.
+	 *
+	 * @return The declared charset, or UTF-8 if none (or an unknown one) is
+	 *         declared.
+	 */
+	static Charset charsetOf(String contentType) {
+		if (contentType != null) {
+			int index = contentType.toLowerCase(Locale.ROOT).indexOf("charset=");
+			if (index >= 0) {
+				int start = index + "charset=".length();
+				int end = contentType.indexOf(';', start);
+				String name = (end < 0 ? contentType.substring(start) : contentType.substring(start, end)).trim();
+				if (name.length() > 1 && name.startsWith("\"") && name.endsWith("\"")) {
+					name = name.substring(1, name.length() - 1);
+				}
+				try {
+					return Charset.forName(name);
+				} catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+					// Fall back to UTF-8, the default for JSON and most APIs.
+				}
+			}
+		}
+		return StandardCharsets.UTF_8;
+	}
+
+	/**
+	 * Decodes the preview bytes. For a truncated body the decoder is never told
+	 * that the input ended, so a multi-byte character cut in half by the preview
+	 * limit is dropped instead of being rendered as U+FFFD.
+	 */
+	static String decodePreview(byte[] bytes, Charset charset, boolean truncated) {
+		if (!truncated) {
+			return new String(bytes, charset);
+		}
+		CharsetDecoder decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		CharBuffer chars = CharBuffer.allocate((int) Math.ceil(bytes.length * (double) decoder.maxCharsPerByte()));
+		decoder.decode(ByteBuffer.wrap(bytes), chars, false);
+		chars.flip();
+		return chars.toString();
+	}
+
+	// --- Getters ---
+
+	public String getContentType() {
+		return contentType;
+	}
+
+	public PayloadFormat getFormat() {
+		return format;
+	}
+
+	/**
+	 * Gets the raw preview of the body.
+	 *
+	 * @return The first bytes of the body, decoded with the charset declared by
+	 *         the content type (UTF-8 by default).
+	 */
+	public String getPreview() {
+		return preview;
+	}
+
+	/**
+	 * Pretty-prints the preview according to the payload format. The result is
+	 * not cached.
+	 *
+	 * @return The formatted preview.
+	 */
+	public String getPrettyPreview() {
+		return format.prettyPrint(preview);
+	}
+
+	/**
+	 * Indicates whether the preview is shorter than the full body.
+	 *
+	 * @return {@code true} if the body was truncated for the preview.
+	 */
+	public boolean isTruncated() {
+		return truncated;
+	}
+
+	/**
+	 * Gets the size of the full body.
+	 *
+	 * @return The body size in bytes.
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	/**
+	 * Gets the SHA-256 hash of the full body.
+	 *
+	 * @return The lowercase hexadecimal hash.
+	 */
+	public String getSha256() {
+		return sha256;
+	}
+
+	/**
+	 * Gets the location of the file holding the full body.
+	 *
+	 * @return The path of the asset file.
+	 */
+	public Path getAssetPath() {
+		return assetPath;
+	}
+}
@@ -1,15 +1,31 @@
 package com.visionreport.model;
 
+import java.io.InputStream;
 import java.time.LocalDateTime;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.visionreport.exception.VisionReportException;
+
 public class LogEntry {
 
 	private String logId;
+	private int logNumber;
 	private String name;
 	private String message;
+	private SpilledMessage spilledMessage;
 	private final Status status;
 	private final LocalDateTime timestamp;
 	private Media media; // New field
+	private HttpPayload request;
+	private HttpPayload response;
+	private AssetStore assetStore;
+
+	/** Defers logging initialization until the first warning is logged. */
+	private static final class LoggerHolder {
+		static final Logger LOGGER = LoggerFactory.getLogger(LogEntry.class);
+	}
 
 	LogEntry(Status status, String name) {
 		this.timestamp = LocalDateTime.now();
@@ -20,6 +36,9 @@ public class LogEntry {
 
 	// Getters
 	public String getLogId() {
+		if (logId == null && logNumber > 0) {
+			logId = "Log #" + logNumber;
+		}
 		return logId;
 	}
 
@@ -27,10 +46,38 @@ public class LogEntry {
 		return name;
 	}
 
+	/**
+	 * Gets the message of this log entry. For a message that was spilled to disk,
+	 * this is the preview kept in memory; see {@link #getFullMessage()}.
+	 * 
+	 * @return The message, or its preview if it was spilled.
+	 */
 	public String getMessage() {
 		return message;
 	}
 
+	/**
+	 * Gets the full message of this log entry, reading it back from disk if it
+	 * was spilled.
+	 * 
+	 * @return The full message.
+	 * @throws VisionReportException if a spilled message cannot be read.
+	 */
+	public String getFullMessage() throws VisionReportException {
+		return spilledMessage != null ? spilledMessage.read() : message;
+	}
+
+	/**
+	 * Gets the spilled form of the message, if the message exceeded the
+	 * threshold of the {@link AssetStore}.
+	 * 
+	 * @return The {@link SpilledMessage}, or {@code null} if the message is held
+	 *         in memory.
+	 */
+	public SpilledMessage getSpilledMessage() {
+		return spilledMessage;
+	}
+
 	public Status getStatus() {
 		return status;
 	}
@@ -43,15 +90,52 @@ public class LogEntry {
 		return media;
 	} // New getter
 
+	public HttpPayload getRequest() {
+		return request;
+	}
+
+	public HttpPayload getResponse() {
+		return response;
+	}
+
 	// Fluent Setters
 	LogEntry setLogId(String logId) {
 		this.logId = logId;
+		this.logNumber = 0;
 		return this;
 	}
 
+	LogEntry setLogNumber(int logNumber) {
+		this.logId = null;
+		this.logNumber = logNumber;
+		return this;
+	}
+
+	LogEntry setAssetStore(AssetStore assetStore) {
+		this.assetStore = assetStore;
+		return this;
+	}
+
+	/**
+	 * Sets the message of this log entry. Messages longer than the threshold of
+	 * the {@link AssetStore} are compressed to disk and only a preview is kept in
+	 * memory. If the message cannot be written, it is kept in memory instead.
+	 * 
+	 * @param message A detailed message for the log.
+	 * @return The current {@link LogEntry} instance for method chaining.
+	 */
 	public LogEntry setMessage(String message) {
 		if (message != null && !message.trim().isEmpty()) {
 			this.message = message;
+			this.spilledMessage = null;
+			if (assetStore != null && message.length() > assetStore.getMessageThreshold()) {
+				try {
+					this.spilledMessage = assetStore.spill(message);
+					this.message = spilledMessage.getPreview();
+				} catch (VisionReportException e) {
+					LoggerHolder.LOGGER.warn("Keeping log message in memory: {}", e.getMessage());
+				}
+			}
 		}
 		return this;
 	}
@@ -66,4 +150,76 @@ public class LogEntry {
 		this.media = media;
 		return this;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Attaches an HTTP request body to this log entry.
+	 * 
+	 * @param request The {@link HttpPayload} holding the request body.
+	 * @return The current {@link LogEntry} instance for method chaining.
+	 */
+	public LogEntry attachRequest(HttpPayload request) {
+		this.request = request;
+		return this;
+	}
+
+	/**
+	 * Streams an HTTP request body to the asset store of the owning test case and
+	 * attaches it to this log entry.
+	 * 
+	 * @param body        The request body.
+	 * @param contentType The content type of the body (e.g., "application/json").
+	 * @return The current {@link LogEntry} instance for method chaining.
+	 * @throws VisionReportException if the body cannot be read or written.
+	 */
+	public LogEntry attachRequest(InputStream body, String contentType) throws VisionReportException {
+		return attachRequest(HttpPayload.fromStream(assetStore, body, contentType));
+	}
+
+	/**
+	 * Attaches an HTTP request body held as a String to this log entry.
+	 * 
+	 * @param body        The request body.
+	 * @param contentType The content type of the body.
+	 * @return The current {@link LogEntry} instance for method chaining.
+	 * @throws VisionReportException if the body cannot be written.
+	 */
+	public LogEntry attachRequest(String body, String contentType) throws VisionReportException {
+		return attachRequest(HttpPayload.fromString(assetStore, body, contentType));
+	}
+
+	/**
+	 * Attaches an HTTP response body to this log entry.
+	 * 
+	 * @param response The {@link HttpPayload} holding the response body.
+	 * @return The current {@link LogEntry} instance for method chaining.
+	 */
+	public LogEntry attachResponse(HttpPayload response) {
+		this.response = response;
+		return this;
+	}
+
+	/**
+	 * Streams an HTTP response body to the asset store of the owning test case and
+	 * attaches it to this log entry.
+	 * 
+	 * @param body        The response body.
+	 * @param contentType The content type of the body (e.g., "application/json").
+	 * @return The current {@link LogEntry} instance for method chaining.
+	 * @throws VisionReportException if the body cannot be read or written.
+	 */
+	public LogEntry attachResponse(InputStream body, String contentType) throws VisionReportException {
+		return attachResponse(HttpPayload.fromStream(assetStore, body, contentType));
+	}
+
+	/**
+	 * Attaches an HTTP response body held as a String to this log entry.
+	 * 
+	 * @param body        The response body.
+	 * @param contentType The content type of the body.
+	 * @return The current {@link LogEntry} instance for method chaining.
+	 * @throws VisionReportException if the body cannot be written.
+	 */
+	public LogEntry attachResponse(String body, String contentType) throws VisionReportException {
+		return attachResponse(HttpPayload.fromString(assetStore, body, contentType));
+	}
+}
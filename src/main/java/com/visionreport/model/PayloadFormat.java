@@ -0,0 +1,82 @@
+package com.visionreport.model;
+
+import java.util.Locale;
+
+/**
+ * Defines the format of an HTTP payload attached to a {@link LogEntry}.
+ * <p>
+ * The format decides how the payload preview is pretty-printed when the report
+ * is rendered and which file extension is used for the stored body.
+ * </p>
+ *
+ * @author Vision-Report Team
+ * @version 0.0.1-SNAPSHOT
+ * @since 0.0.1
+ */
+public enum PayloadFormat {
+
+	/** A JSON document. */
+	JSON(".json"),
+
+	/** An XML document (including SOAP envelopes). */
+	XML(".xml"),
+
+	/** Any other content, rendered as-is. */
+	TEXT(".txt");
+
+	private final String extension;
+
+	private PayloadFormat(String extension) {
+		this.extension = extension;
+	}
+
+	/**
+	 * Gets the file extension used when storing payloads of this format.
+	 *
+	 * @return The file extension, including the leading dot.
+	 */
+	public String getExtension() {
+		return extension;
+	}
+
+	/**
+	 * Pretty-prints the given text according to this format. Truncated documents
+	 * are formatted as far as they go.
+	 *
+	 * @param text The text to format.
+	 * @return The formatted text.
+	 */
+	public String prettyPrint(String text) {
+		if (text == null || text.isEmpty()) {
+			return text;
+		}
+		switch (this) {
+		case JSON:
+			return PayloadPrinter.json(text);
+		case XML:
+			return PayloadPrinter.xml(text);
+		default:
+			return text;
+		}
+	}
+
+	/**
+	 * Determines the format from a content type such as
+	 * {@code application/json; charset=UTF-8}.
+	 *
+	 * @param contentType The content type of the payload; may be {@code null}.
+	 * @return The matching format, or {@link #TEXT} if none matches.
+	 */
+	public static PayloadFormat fromContentType(String contentType) {
+		if (contentType != null) {
+			String type = contentType.toLowerCase(Locale.ROOT);
+			if (type.contains("json")) {
+				return JSON;
+			}
+			if (type.contains("xml")) {
+				return XML;
+			}
+		}
+		return TEXT;
+	}
+}
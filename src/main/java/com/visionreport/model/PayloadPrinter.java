@@ -0,0 +1,129 @@
+package com.visionreport.model;
+
+/**
+ * Lenient pretty-printers for JSON and XML payload previews.
+ * <p>
+ * Previews are usually cut off in the middle of a document, so these printers
+ * only re-indent the text and never validate it.
+ * </p>
+ *
+ * @author Vision-Report Team
+ * @version 0.0.1-SNAPSHOT
+ * @since 0.0.1
+ */
+final class PayloadPrinter {
+
+	private static final String INDENT = "  ";
+
+	private PayloadPrinter() {
+	}
+
+	static String json(String text) {
+		StringBuilder out = new StringBuilder(text.length() + text.length() / 4);
+		int depth = 0;
+		boolean inString = false;
+		boolean escaped = false;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (inString) {
+				out.append(c);
+				if (escaped) {
+					escaped = false;
+				} else if (c == '\\') {
+					escaped = true;
+				} else if (c == '"') {
+					inString = false;
+				}
+				continue;
+			}
+			switch (c) {
+			case '"':
+				inString = true;
+				out.append(c);
+				break;
+			case '{':
+			case '[':
+				out.append(c);
+				int next = skipWhitespace(text, i + 1);
+				if (next < text.length() && (text.charAt(next) == '}' || text.charAt(next) == ']')) {
+					out.append(text.charAt(next));
+					i = next;
+				} else {
+					newLine(out, ++depth);
+				}
+				break;
+			case '}':
+			case ']':
+				newLine(out, depth = Math.max(0, depth - 1));
+				out.append(c);
+				break;
+			case ',':
+				out.append(c);
+				newLine(out, depth);
+				break;
+			case ':':
+				out.append(": ");
+				break;
+			default:
+				if (!Character.isWhitespace(c)) {
+					out.append(c);
+				}
+			}
+		}
+		return out.toString();
+	}
+
+	static String xml(String text) {
+		StringBuilder out = new StringBuilder(text.length() + text.length() / 4);
+		int depth = 0;
+		boolean inlineText = false;
+		int i = 0;
+		while (i < text.length()) {
+			if (text.charAt(i) == '<') {
+				int end = text.indexOf('>', i);
+				String tag = end < 0 ? text.substring(i) : text.substring(i, end + 1);
+				i = end < 0 ? text.length() : end + 1;
+				if (tag.startsWith("</")) {
+					depth = Math.max(0, depth - 1);
+					if (!inlineText) {
+						newLine(out, depth);
+					}
+					out.append(tag);
+				} else {
+					newLine(out, depth);
+					out.append(tag);
+					if (!tag.endsWith("/>") && !tag.startsWith("<?") && !tag.startsWith("<!")) {
+						depth++;
+					}
+				}
+				inlineText = false;
+			} else {
+				int end = text.indexOf('<', i);
+				String content = (end < 0 ? text.substring(i) : text.substring(i, end)).trim();
+				i = end < 0 ? text.length() : end;
+				if (!content.isEmpty()) {
+					out.append(content);
+					inlineText = true;
+				}
+			}
+		}
+		return out.toString();
+	}
+
+	private static int skipWhitespace(String text, int index) {
+		while (index < text.length() && Character.isWhitespace(text.charAt(index))) {
+			index++;
+		}
+		return index;
+	}
+
+	private static void newLine(StringBuilder out, int depth) {
+		if (out.length() == 0) {
+			return;
+		}
+		out.append('\n');
+		for (int i = 0; i < depth; i++) {
+			out.append(INDENT);
+		}
+	}
+}
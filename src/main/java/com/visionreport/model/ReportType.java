@@ -21,7 +21,7 @@ public enum ReportType {
 
 	/**
 	 * A report for API test automation, focusing on request/response details.
-	 * (Future)
+	 * Bodies are attached to log entries as {@link HttpPayload} objects.
 	 */
 	API_TESTING("API Test Automation Report"),
 
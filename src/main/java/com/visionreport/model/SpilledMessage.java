@@ -0,0 +1,114 @@
+package com.visionreport.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+import com.visionreport.exception.VisionReportException;
+
+/**
+ * Represents a large {@link LogEntry} message that was moved out of memory.
+ * <p>
+ * The full message is stored GZIP-compressed in an {@link AssetStore} file
+ * named after its SHA-256 hash, and only a short preview is kept on the heap.
+ * Identical messages (e.g., the same stack trace logged by many tests) share
+ * one file and one {@link SpilledMessage} instance.
+ * </p>
+ *
+ * @author Vision-Report Team
+ * @version 0.0.1-SNAPSHOT
+ * @since 0.0.1
+ */
+public final class SpilledMessage {
+
+	private final String preview;
+	private final int length;
+	private final String sha256;
+	private final Path assetPath;
+
+	SpilledMessage(String preview, int length, String sha256, Path assetPath) {
+		this.preview = preview;
+		this.length = length;
+		this.sha256 = sha256;
+		this.assetPath = assetPath;
+	}
+
+	/**
+	 * Gets the beginning of the message that is kept in memory.
+	 *
+	 * @return The message preview.
+	 */
+	public String getPreview() {
+		return preview;
+	}
+
+	/**
+	 * Gets the length of the full message.
+	 *
+	 * @return The number of characters in the full message.
+	 */
+	public int getLength() {
+		return length;
+	}
+
+	/**
+	 * Gets the SHA-256 hash of the full message, encoded as UTF-8.
+	 *
+	 * @return The lowercase hexadecimal hash.
+	 */
+	public String getSha256() {
+		return sha256;
+	}
+
+	/**
+	 * Gets the location of the compressed message file.
+	 *
+	 * @return The path of the {@code .txt.gz} asset file.
+	 */
+	public Path getAssetPath() {
+		return assetPath;
+	}
+
+	/**
+	 * Reads the full message back from disk.
+	 *
+	 * @return The full message.
+	 * @throws VisionReportException if the asset file cannot be read.
+	 */
+	public String read() throws VisionReportException {
+		try (InputStream in = new GZIPInputStream(Files.newInputStream(assetPath))) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new VisionReportException("Failed to read spilled log message at path: " + assetPath, e);
+		}
+	}
+
+	/**
+	 * Opens the full message for streaming, so that it can be copied to an output
+	 * without being held in memory. The caller must close the reader.
+	 *
+	 * @return A reader over the full message.
+	 * @throws VisionReportException if the asset file cannot be opened.
+	 */
+	public Reader openReader() throws VisionReportException {
+		InputStream in = null;
+		try {
+			in = Files.newInputStream(assetPath);
+			return new InputStreamReader(new GZIPInputStream(in), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			if (in != null) {
+				try {
+					in.close();
+				} catch (IOException ignored) {
+					// Already failing.
+				}
+			}
+			throw new VisionReportException("Failed to read spilled log message at path: " + assetPath, e);
+		}
+	}
+}
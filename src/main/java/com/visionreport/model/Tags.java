@@ -0,0 +1,128 @@
+package com.visionreport.model;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parses and interns the tag sets assigned to {@link TestCase} objects.
+ * <p>
+ * Test suites usually reuse a handful of tag combinations across thousands of
+ * tests. Instead of building a new set per test, each distinct combination is
+ * parsed once and the resulting unmodifiable set is shared by every test case
+ * that carries it. The caches are bounded so that suites with unique tags per
+ * test do not grow them without limit.
+ * </p>
+ *
+ * @author Vision-Report Team
+ * @version 0.0.1-SNAPSHOT
+ * @since 0.0.1
+ */
+final class Tags {
+
+	/** The maximum number of entries kept in each cache. */
+	private static final int MAX_CACHED_SETS = 1024;
+
+	/** Interned tag sets keyed by the raw comma-separated input. */
+	private static final Map<String, Set<String>> BY_INPUT = new ConcurrentHashMap<>();
+
+	/** Interned tag sets keyed by their own content. */
+	private static final Map<Set<String>, Set<String>> BY_CONTENT = new ConcurrentHashMap<>();
+
+	private Tags() {
+	}
+
+	/**
+	 * Parses a comma-separated string of tags into a shared, unmodifiable set.
+	 * Each tag is trimmed and blank tags are ignored.
+	 *
+	 * @param input A comma-separated string of tags (e.g., "Smoke, Regression").
+	 * @return The interned set of tags; never {@code null}.
+	 */
+	static Set<String> parse(String input) {
+		if (input == null || input.isEmpty()) {
+			return Collections.emptySet();
+		}
+		Set<String> cached = BY_INPUT.get(input);
+		if (cached != null) {
+			return cached;
+		}
+		Set<String> tags = intern(tokenize(input));
+		if (BY_INPUT.size() < MAX_CACHED_SETS) {
+			BY_INPUT.putIfAbsent(input, tags);
+		}
+		return tags;
+	}
+
+	/**
+	 * Builds a shared, unmodifiable set from individual tags. Each tag is trimmed
+	 * and {@code null} or blank tags are ignored.
+	 *
+	 * @param tags The tags to intern.
+	 * @return The interned set of tags; never {@code null}.
+	 */
+	static Set<String> intern(String... tags) {
+		if (tags == null || tags.length == 0) {
+			return Collections.emptySet();
+		}
+		Set<String> set = new HashSet<>(tags.length * 2);
+		for (String tag : tags) {
+			if (tag != null) {
+				String trimmed = tag.trim();
+				if (!trimmed.isEmpty()) {
+					set.add(trimmed);
+				}
+			}
+		}
+		return intern(set);
+	}
+
+	private static Set<String> intern(Set<String> tags) {
+		if (tags.isEmpty()) {
+			return Collections.emptySet();
+		}
+		Set<String> cached = BY_CONTENT.get(tags);
+		if (cached != null) {
+			return cached;
+		}
+		Set<String> shared = Collections.unmodifiableSet(tags);
+		if (BY_CONTENT.size() < MAX_CACHED_SETS) {
+			Set<String> previous = BY_CONTENT.putIfAbsent(tags, shared);
+			if (previous != null) {
+				return previous;
+			}
+		}
+		return shared;
+	}
+
+	/**
+	 * Splits the input on commas without regular expressions, trimming each token
+	 * by index so that only the final tag strings are allocated.
+	 */
+	private static Set<String> tokenize(String input) {
+		Set<String> tags = new HashSet<>();
+		int length = input.length();
+		int start = 0;
+		while (start <= length) {
+			int end = input.indexOf(',', start);
+			if (end < 0) {
+				end = length;
+			}
+			int from = start;
+			int to = end;
+			while (from < to && input.charAt(from) <= ' ') {
+				from++;
+			}
+			while (to > from && input.charAt(to - 1) <= ' ') {
+				to--;
+			}
+			if (from < to) {
+				tags.add(input.substring(from, to));
+			}
+			start = end + 1;
+		}
+		return tags;
+	}
+}
@@ -3,11 +3,10 @@ package com.visionreport.model;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Represents a single, executable test case within a test suite.
@@ -23,6 +22,7 @@ import java.util.stream.Collectors;
 public class TestCase {
 
 	private String testId;
+	private int sequentialId;
 	private String name;
 	private String description;
 	private Status status = Status.SKIP;
@@ -30,19 +30,32 @@ public class TestCase {
 	private LocalDateTime endTime;
 	private Duration duration;
 	private Set<String> tags;
+	private boolean tagsShared;
 	private final List<LogEntry> logs;
 	private int logCounter = 0;
+	private AssetStore assetStore = AssetStore.getDefault();
 
 	public TestCase(String name) {
 		this.name = name;
 		this.startTime = LocalDateTime.now();
-		this.tags = new HashSet<>();
+		this.tags = Collections.emptySet();
+		this.tagsShared = true;
 		this.logs = new ArrayList<>();
 		this.description = "No description available.";
 	}
 
-	private String generateNextLogId() {
-		return "Log #" + ++logCounter;
+	/**
+	 * Formats an auto-generated test ID ({@code TC001}, {@code TC042},
+	 * {@code TC1234}) without going through {@link String#format}.
+	 */
+	private static String formatTestId(int number) {
+		if (number < 10) {
+			return "TC00" + number;
+		}
+		if (number < 100) {
+			return "TC0" + number;
+		}
+		return "TC" + number;
 	}
 
 	// --- Log Creation API ---
@@ -57,7 +70,8 @@ public class TestCase {
 	 */
 	public LogEntry addLog(Status status, String name) {
 		LogEntry log = new LogEntry(status, name);
-		log.setLogId(generateNextLogId());
+		log.setLogNumber(++logCounter);
+		log.setAssetStore(assetStore);
 		this.logs.add(log);
 		return log;
 	}
@@ -73,6 +87,7 @@ public class TestCase {
 	public LogEntry addLog(Status status, String logId, String name) {
 		LogEntry log = new LogEntry(status, name);
 		log.setLogId(logId);
+		log.setAssetStore(assetStore);
 		this.logs.add(log);
 		return log;
 	}
@@ -111,9 +126,33 @@ public class TestCase {
 	// --- Getters ---
 
 	public String getTestId() {
+		if (testId == null && sequentialId > 0) {
+			testId = formatTestId(sequentialId);
+		}
 		return testId;
 	}
 
+	/**
+	 * Checks whether this test case has an ID, either set explicitly or assigned
+	 * by a report, without materializing an auto-generated ID.
+	 * 
+	 * @return {@code true} if {@link #getTestId()} returns a non-null value.
+	 */
+	public boolean hasTestId() {
+		return testId != null || sequentialId > 0;
+	}
+
+	/**
+	 * Checks whether this test case has an ID set explicitly (e.g., through
+	 * {@link #setTestId(String)}), as opposed to one generated from its position
+	 * in a report. Only explicit IDs identify the same test across runs.
+	 * 
+	 * @return {@code true} if the ID was set explicitly.
+	 */
+	public boolean hasExplicitTestId() {
+		return testId != null && sequentialId == 0;
+	}
+
 	public String getName() {
 		return name;
 	}
@@ -138,18 +177,64 @@ public class TestCase {
 		return duration;
 	}
 
+	/**
+	 * Gets the tags of this test case as a mutable set.
+	 * <p>
+	 * Tag sets parsed from identical input are shared between test cases. The
+	 * first call to this method gives the test case its own copy, so changes to
+	 * the returned set never affect other test cases. Read-only callers should
+	 * prefer {@link #getReadOnlyTags()}, which keeps the set shared.
+	 * </p>
+	 * 
+	 * @return The tags of this test case.
+	 */
 	public Set<String> getTags() {
+		if (tagsShared) {
+			this.tags = new HashSet<>(this.tags);
+			this.tagsShared = false;
+		}
 		return tags;
 	}
 
+	/**
+	 * Gets a read-only view of the tags of this test case without copying a
+	 * shared tag set.
+	 * 
+	 * @return The unmodifiable tags of this test case.
+	 */
+	public Set<String> getReadOnlyTags() {
+		return tagsShared ? tags : Collections.unmodifiableSet(tags);
+	}
+
 	public List<LogEntry> getLogs() {
 		return logs;
 	}
 
+	public AssetStore getAssetStore() {
+		return assetStore;
+	}
+
 	// --- Fluent Setters ---
 
 	public TestCase setTestId(String testId) {
 		this.testId = testId;
+		this.sequentialId = 0;
+		return this;
+	}
+
+	/**
+	 * Assigns an auto-generated ID to this test case. The textual form (e.g.,
+	 * {@code TC001}) is only built when {@link #getTestId()} is first called.
+	 * 
+	 * @param number The positive sequence number of the test case.
+	 * @return The current {@link TestCase} instance for method chaining.
+	 */
+	public TestCase setSequentialId(int number) {
+		if (number <= 0) {
+			throw new IllegalArgumentException("Sequential ID must be positive.");
+		}
+		this.testId = null;
+		this.sequentialId = number;
 		return this;
 	}
 
@@ -185,16 +270,52 @@ public class TestCase {
 		return this;
 	}
 
+	/**
+	 * Sets the {@link AssetStore} used by the logs of this test case to store
+	 * large messages and attachments such as HTTP payloads. Existing logs switch
+	 * to the new store as well; messages and payloads they already wrote stay in
+	 * the store they were written to.
+	 * 
+	 * @param assetStore The asset store to use.
+	 * @return The current {@link TestCase} instance for method chaining.
+	 */
+	public TestCase setAssetStore(AssetStore assetStore) {
+		if (assetStore != null && assetStore != this.assetStore) {
+			this.assetStore = assetStore;
+			for (LogEntry log : logs) {
+				log.setAssetStore(assetStore);
+			}
+		}
+		return this;
+	}
+
 	public TestCase addTag(String tag) {
 		if (tag != null && !tag.trim().isEmpty()) {
+			if (tagsShared) {
+				this.tags = new HashSet<>(this.tags);
+				this.tagsShared = false;
+			}
 			this.tags.add(tag.trim());
 		}
 		return this;
 	}
 
 	public TestCase setTags(String... tags) {
-		this.tags = Arrays.stream(tags).filter(tag -> tag != null && !tag.trim().isEmpty()).map(String::trim)
-				.collect(Collectors.toSet());
+		this.tags = Tags.intern(tags);
+		this.tagsShared = true;
+		return this;
+	}
+
+	/**
+	 * Replaces the tags of this test case with those parsed from a comma-separated
+	 * string (e.g., "Smoke, Regression"). Blank entries are ignored.
+	 * 
+	 * @param tags A comma-separated string of tags.
+	 * @return The current {@link TestCase} instance for method chaining.
+	 */
+	public TestCase setCommaSeparatedTags(String tags) {
+		this.tags = Tags.parse(tags);
+		this.tagsShared = true;
 		return this;
 	}
 }
\ No newline at end of file
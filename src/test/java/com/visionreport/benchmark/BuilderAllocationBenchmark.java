@@ -0,0 +1,82 @@
+package com.visionreport.benchmark;
+
+import java.lang.management.ManagementFactory;
+
+import com.visionreport.api.VisionReport;
+import com.visionreport.model.ReportType;
+import com.visionreport.model.Status;
+import com.visionreport.model.TestCase;
+
+/**
+ * Measures the bytes allocated per call by the hot paths of the builder API.
+ * <p>
+ * Allocation is read from the current thread's allocation counter before and
+ * after each batch of calls, so the figures include everything a call
+ * allocates (the model objects themselves, IDs, tag sets and list growth). Each
+ * scenario is warmed up before it is measured.
+ * </p>
+ *
+ * <pre>
+ * mvn -B test-compile
+ * java -cp target/classes:target/test-classes:&lt;freemarker and slf4j jars&gt; \
+ *     com.visionreport.benchmark.BuilderAllocationBenchmark [calls]
+ * </pre>
+ *
+ * @author Vision-Report Team
+ * @version 0.0.1-SNAPSHOT
+ * @since 0.0.1
+ */
+public final class BuilderAllocationBenchmark {
+
+	private static final int DEFAULT_CALLS = 1_000_000;
+	private static final int WARM_UP_ROUNDS = 3;
+
+	private static final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean) ManagementFactory
+			.getThreadMXBean();
+
+	private BuilderAllocationBenchmark() {
+	}
+
+	/** A builder call measured over a fresh report. */
+	private interface Scenario {
+		void run(VisionReport report, int calls);
+	}
+
+	public static void main(String[] args) {
+		int calls = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CALLS;
+		measure("addTest(name)", calls, (report, n) -> {
+			for (int i = 0; i < n; i++) {
+				report.addTest("Login");
+			}
+		});
+		measure("addTestWithTags(name, tags)", calls, (report, n) -> {
+			for (int i = 0; i < n; i++) {
+				report.addTestWithTags("Login", "Smoke, Regression");
+			}
+		});
+		measure("addTest + addLog", calls, (report, n) -> {
+			for (int i = 0; i < n; i++) {
+				report.addTest("Login").addLog(Status.PASS, "Step");
+			}
+		});
+		measure("addTest + getTestId", calls, (report, n) -> {
+			for (int i = 0; i < n; i++) {
+				report.addTest("Login").getTestId();
+			}
+		});
+	}
+
+	private static void measure(String name, int calls, Scenario scenario) {
+		for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+			scenario.run(new VisionReport(ReportType.UI_TESTING), calls);
+		}
+		VisionReport report = new VisionReport(ReportType.UI_TESTING);
+		long thread = Thread.currentThread().getId();
+		long before = THREADS.getThreadAllocatedBytes(thread);
+		scenario.run(report, calls);
+		long allocated = THREADS.getThreadAllocatedBytes(thread) - before;
+		TestCase last = report.getTestCases().get(report.getTestCases().size() - 1);
+		System.out.printf("%-30s %8d bytes/call (%d calls, last id %s)%n", name, allocated / calls, calls,
+				last.getTestId());
+	}
+}
@@ -0,0 +1,174 @@
+package com.visionreport.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import com.visionreport.api.VisionReport;
+import com.visionreport.exception.VisionReportException;
+import com.visionreport.importer.JUnitXmlImporter;
+import com.visionreport.model.ReportType;
+import com.visionreport.model.Status;
+
+/**
+ * Checks that incremental HTML generation merges a re-run of only the failed
+ * tests into the previous report.
+ * <p>
+ * Each scenario generates a full report, then a report holding only the
+ * re-run tests into the same output, and inspects the resulting page: the test
+ * IDs listed, the status of each, and the totals in the header. The check
+ * fails with an {@link IllegalStateException} on the first mismatch.
+ * </p>
+ *
+ * <pre>
+ * mvn -B test-compile
+ * java -cp target/classes:target/test-classes:&lt;freemarker and slf4j jars&gt; \
+ *     com.visionreport.core.IncrementalMergeCheck
+ * </pre>
+ *
+ * @author Vision-Report Team
+ * @version 0.0.1-SNAPSHOT
+ * @since 0.0.1
+ */
+public final class IncrementalMergeCheck {
+
+	private static final Pattern TEST = Pattern
+			.compile("<details class=\"test\" id=\"([^\"]*)\">\\s*<summary><span class=\"status \\w+\">(\\w+)</span>");
+	private static final Pattern TOTAL = Pattern.compile("<div>Total: (\\d+)</div>");
+	private static final Pattern COUNT = Pattern.compile("<span class=\"status \\w+\">(\\w+)</span> (\\d+)</div>");
+
+	private IncrementalMergeCheck() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		Path directory = Files.createTempDirectory("vision-report-merge");
+		try {
+			explicitIdsAreMerged(directory.resolve("explicit/index.html"));
+			autoGeneratedIdsAreNotMerged(directory.resolve("auto/index.html"));
+			importedFailuresAreMerged(directory.resolve("imported/index.html"));
+			System.out.println("Incremental merge checks passed.");
+		} finally {
+			try (Stream<Path> paths = Files.walk(directory)) {
+				paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+			}
+		}
+	}
+
+	/** test-3 fails, is re-run alone with an explicit ID and passes. */
+	private static void explicitIdsAreMerged(Path output) throws Exception {
+		VisionReport full = report(output);
+		for (int i = 1; i <= 5; i++) {
+			full.addTest("test-" + i, "Test " + i).setStatus(i == 3 ? Status.FAIL : Status.PASS);
+		}
+		generate(full, output);
+		VisionReport rerun = report(output);
+		rerun.addTest("test-3", "Test 3").setStatus(Status.PASS);
+		generate(rerun, output);
+
+		String html = read(output);
+		Map<String, String> tests = tests(html);
+		expect("test IDs", "[test-3, test-1, test-2, test-4, test-5]", tests.keySet().toString());
+		expect("test-3 status", "PASS", tests.get("test-3"));
+		expect("total", "5", total(html));
+		expect("failures", "0", count(html, "FAIL"));
+		expect("passes", "5", count(html, "PASS"));
+	}
+
+	/** The same re-run through addTest(name) must not be matched by position. */
+	private static void autoGeneratedIdsAreNotMerged(Path output) throws Exception {
+		VisionReport full = report(output);
+		for (int i = 1; i <= 5; i++) {
+			full.addTest("test-" + i).setStatus(i == 3 ? Status.FAIL : Status.PASS);
+		}
+		generate(full, output);
+		VisionReport rerun = report(output);
+		rerun.addTest("test-3").setStatus(Status.PASS);
+		generate(rerun, output);
+
+		String html = read(output);
+		expect("test IDs", "[TC001]", tests(html).keySet().toString());
+		expect("total", "1", total(html));
+		expect("failures", "0", count(html, "FAIL"));
+	}
+
+	/** Two result files share a class; the failed test is re-imported alone. */
+	private static void importedFailuresAreMerged(Path output) throws Exception {
+		String first = "<testsuite name='A'><testcase classname='c.T' name='one'/>"
+				+ "<testcase classname='c.T' name='two'><failure message='boom'/></testcase></testsuite>";
+		String second = "<testsuite name='B'><testcase classname='c.T' name='one'/></testsuite>";
+		VisionReport full = report(output);
+		importXml(full, first);
+		importXml(full, second);
+		generate(full, output);
+		expect("imported test IDs", "[c.T.one, c.T.two, c.T.one[2]]", tests(read(output)).keySet().toString());
+
+		VisionReport rerun = report(output);
+		importXml(rerun, "<testsuite name='A'><testcase classname='c.T' name='two'/></testsuite>");
+		generate(rerun, output);
+
+		String html = read(output);
+		Map<String, String> tests = tests(html);
+		expect("merged test IDs", "[c.T.two, c.T.one, c.T.one[2]]", tests.keySet().toString());
+		expect("c.T.two status", "PASS", tests.get("c.T.two"));
+		expect("total", "3", total(html));
+		expect("failures", "0", count(html, "FAIL"));
+	}
+
+	private static VisionReport report(Path output) {
+		return new VisionReport(ReportType.UI_TESTING).setAssetDirectory(output.resolveSibling("assets").toString());
+	}
+
+	private static void importXml(VisionReport report, String xml) throws VisionReportException {
+		new JUnitXmlImporter(report).importStream(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static void generate(VisionReport report, Path output) throws VisionReportException {
+		new HtmlReportGenerator(report, output.toString()).setIncremental(true).generate();
+	}
+
+	private static String read(Path output) throws IOException {
+		return new String(Files.readAllBytes(output), StandardCharsets.UTF_8);
+	}
+
+	/** Gets the status of each test on the page, keyed by test ID in page order. */
+	private static Map<String, String> tests(String html) {
+		Map<String, String> tests = new LinkedHashMap<>();
+		Matcher matcher = TEST.matcher(html);
+		while (matcher.find()) {
+			if (tests.put(matcher.group(1), matcher.group(2)) != null) {
+				throw new IllegalStateException("Test " + matcher.group(1) + " is listed twice.");
+			}
+		}
+		return tests;
+	}
+
+	private static String total(String html) {
+		Matcher matcher = TOTAL.matcher(html);
+		return matcher.find() ? matcher.group(1) : null;
+	}
+
+	/** Gets a header count; test fragments never end a status badge with a number. */
+	private static String count(String html, String status) {
+		Matcher matcher = COUNT.matcher(html);
+		while (matcher.find()) {
+			if (matcher.group(1).equals(status)) {
+				return matcher.group(2);
+			}
+		}
+		return null;
+	}
+
+	private static void expect(String what, String expected, String actual) {
+		if (!expected.equals(actual)) {
+			throw new IllegalStateException(what + ": expected " + expected + " but was " + actual);
+		}
+	}
+}